@@ -28,6 +28,8 @@ import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 
 import bartworks.MainMod;
+import bartworks.common.loaders.ItemRegistry;
+import bartworks.common.tileentities.multis.MTELESU;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 import gregtech.api.GregTechAPI;
@@ -103,6 +105,7 @@ public class BWBlocks extends Block {
         if (GregTechAPI.isMachineBlock(this, aWorld.getBlockMetadata(aX, aY, aZ))) {
             GregTechAPI.causeMachineUpdate(aWorld, aX, aY, aZ);
         }
+        if (this == ItemRegistry.BW_BLOCKS[1]) MTELESU.onCellChanged(aWorld, aX, aY, aZ, true);
     }
 
     @Override
@@ -110,6 +113,7 @@ public class BWBlocks extends Block {
         if (GregTechAPI.isMachineBlock(this, aMetaData)) {
             GregTechAPI.causeMachineUpdate(aWorld, aX, aY, aZ);
         }
+        if (this == ItemRegistry.BW_BLOCKS[1]) MTELESU.onCellChanged(aWorld, aX, aY, aZ, false);
     }
 
     @Override
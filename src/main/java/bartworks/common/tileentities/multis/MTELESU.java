@@ -16,6 +16,8 @@ package bartworks.common.tileentities.multis;
 import java.awt.Color;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
 
 import net.minecraft.client.renderer.texture.IIconRegister;
 import net.minecraft.entity.player.EntityPlayer;
@@ -49,7 +51,7 @@ import bartworks.MainMod;
 import bartworks.common.configs.Configuration;
 import bartworks.common.loaders.ItemRegistry;
 import bartworks.util.BWTooltipReference;
-import bartworks.util.ConnectedBlocksChecker;
+import bartworks.util.LESUCellNetwork;
 import cpw.mods.fml.common.FMLCommonHandler;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -74,7 +76,9 @@ public class MTELESU extends MTEMultiBlockBase {
     private static final IIcon[] iIcons = new IIcon[4];
     private static final IIconContainer[] iIconContainers = new IIconContainer[4];
     private static final ITexture[][] iTextures = new ITexture[4][1];
-    public ConnectedBlocksChecker connectedcells;
+    /** Server side LESUs, told about cells being placed and broken */
+    private static final Set<MTELESU> LOADED = Collections.newSetFromMap(new WeakHashMap<>());
+    public final LESUCellNetwork connectedcells = new LESUCellNetwork();
     public final ItemStack[] circuits = new ItemStack[5];
     private final ItemStackHandler circuitsInventoryHandler = new ItemStackHandler(this.circuits) {
 
@@ -322,10 +326,55 @@ public class MTELESU extends MTEMultiBlockBase {
 
     @Override
     public void onFirstTick(IGregTechTileEntity aBaseMetaTileEntity) {
+        if (aBaseMetaTileEntity.isServerSide()) {
+            markTouchingNetworksDirty();
+            LOADED.add(this);
+        }
         this.checkMachine(aBaseMetaTileEntity, null);
         super.onFirstTick(aBaseMetaTileEntity);
     }
 
+    @Override
+    public void onRemoval() {
+        if (LOADED.remove(this)) markTouchingNetworksDirty();
+        super.onRemoval();
+    }
+
+    @Override
+    public void onUnload() {
+        LOADED.remove(this);
+        super.onUnload();
+    }
+
+    /**
+     * Another controller placed or removed next to the cells of a LESU changes whether that LESU can work.
+     */
+    private void markTouchingNetworksDirty() {
+        IGregTechTileEntity base = this.getBaseMetaTileEntity();
+        for (MTELESU lesu : LOADED) {
+            if (lesu != this && lesu.getBaseMetaTileEntity() != null
+                && lesu.getWorld() == base.getWorld()
+                && lesu.connectedcells.touches(base.getXCoord(), base.getYCoord(), base.getZCoord())) {
+                lesu.connectedcells.markDirty();
+            }
+        }
+    }
+
+    /**
+     * Called by the LESU cell block when it is placed or broken.
+     */
+    public static void onCellChanged(World world, int x, int y, int z, boolean placed) {
+        if (world.isRemote) return;
+        for (MTELESU lesu : LOADED) {
+            if (lesu.getBaseMetaTileEntity() == null || lesu.getWorld() != world) continue;
+            if (placed) {
+                lesu.connectedcells.onCellPlaced(x, y, z);
+            } else {
+                lesu.connectedcells.onCellBroken(x, y, z);
+            }
+        }
+    }
+
     @Override
     public void onPostTick(IGregTechTileEntity aBaseMetaTileEntity, long aTick) {
         if (aBaseMetaTileEntity.isServerSide()) {
@@ -363,21 +412,15 @@ public class MTELESU extends MTEMultiBlockBase {
     @Override
     public boolean checkMachine(IGregTechTileEntity aBaseMetaTileEntity, ItemStack itemStack) {
         long startingTime = System.nanoTime();
-        this.connectedcells = new ConnectedBlocksChecker();
-        this.connectedcells.get_connected(
+        this.connectedcells.update(
             aBaseMetaTileEntity.getWorld(),
             aBaseMetaTileEntity.getXCoord(),
             aBaseMetaTileEntity.getYCoord(),
             aBaseMetaTileEntity.getZCoord(),
-            ItemRegistry.BW_BLOCKS[1]);
+            ItemRegistry.BW_BLOCKS[1],
+            aBaseMetaTileEntity.getMetaTileID());
 
-        if (this.connectedcells.get_meta_of_sideblocks(
-            aBaseMetaTileEntity.getWorld(),
-            this.getBaseMetaTileEntity()
-                .getMetaTileID(),
-            new int[] { aBaseMetaTileEntity.getXCoord(), aBaseMetaTileEntity.getYCoord(),
-                aBaseMetaTileEntity.getZCoord() },
-            true)) {
+        if (this.connectedcells.touchesOtherController()) {
             this.getBaseMetaTileEntity()
                 .disableWorking();
             this.getBaseMetaTileEntity()
@@ -389,11 +432,11 @@ public class MTELESU extends MTEMultiBlockBase {
         }
 
         this.mEfficiency = this.getMaxEfficiency(null);
-        this.mStorage = (long) Configuration.multiblocks.energyPerCell * this.connectedcells.hashset.size()
+        this.mStorage = (long) Configuration.multiblocks.energyPerCell * this.connectedcells.size()
             >= Long.MAX_VALUE - 1
-            || (long) Configuration.multiblocks.energyPerCell * this.connectedcells.hashset.size() < 0
+            || (long) Configuration.multiblocks.energyPerCell * this.connectedcells.size() < 0
                 ? Long.MAX_VALUE - 1
-                : (long) Configuration.multiblocks.energyPerCell * this.connectedcells.hashset.size();
+                : (long) Configuration.multiblocks.energyPerCell * this.connectedcells.size();
         this.mMaxProgresstime = 1;
         this.mProgresstime = 0;
 
@@ -0,0 +1,113 @@
+package bartworks.util;
+
+import net.minecraft.block.Block;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.ForgeDirection;
+
+import com.gtnewhorizon.gtnhlib.util.CoordinatePacker;
+
+import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+
+/**
+ * The cells connected to a LESU controller, kept up to date as cells are placed and broken instead of walking the
+ * whole structure every time the controller checks itself.
+ * <p>
+ * A cell placed next to the network only walks the cells that weren't part of it yet. A broken cell may split the
+ * network, so it makes the next update walk everything again, as does a LESU controller placed or removed next to it.
+ */
+public class LESUCellNetwork {
+
+    /** Packed positions of the controller and its connected cells */
+    private final LongOpenHashSet cells = new LongOpenHashSet();
+    private final LongArrayFIFOQueue placed = new LongArrayFIFOQueue();
+    private boolean rebuild = true;
+    private boolean touchesOtherController;
+
+    public void markDirty() {
+        rebuild = true;
+    }
+
+    public void onCellPlaced(int x, int y, int z) {
+        if (!rebuild && touches(x, y, z)) placed.enqueue(CoordinatePacker.pack(x, y, z));
+    }
+
+    public void onCellBroken(int x, int y, int z) {
+        if (cells.contains(CoordinatePacker.pack(x, y, z))) rebuild = true;
+    }
+
+    /**
+     * @return If the given position is next to the controller or one of its cells
+     */
+    public boolean touches(int x, int y, int z) {
+        for (ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+            if (cells.contains(CoordinatePacker.pack(x + side.offsetX, y + side.offsetY, z + side.offsetZ))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The amount of cells, plus one for the controller
+     */
+    public int size() {
+        return cells.size();
+    }
+
+    /**
+     * @return If another LESU controller is connected to the cells, which makes the network unusable
+     */
+    public boolean touchesOtherController() {
+        return touchesOtherController;
+    }
+
+    /**
+     * Brings the network up to date with the cells placed and broken since the last update.
+     *
+     * @param cell         The cell block
+     * @param controllerID The meta tile ID of LESU controllers
+     */
+    public void update(World world, int controllerX, int controllerY, int controllerZ, Block cell, int controllerID) {
+        final long controller = CoordinatePacker.pack(controllerX, controllerY, controllerZ);
+        final LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+
+        if (rebuild) {
+            rebuild = false;
+            touchesOtherController = false;
+            cells.clear();
+            placed.clear();
+            cells.add(controller);
+            queue.enqueue(controller);
+        } else {
+            while (!placed.isEmpty()) {
+                final long pos = placed.dequeueLong();
+                final int x = CoordinatePacker.unpackX(pos), y = CoordinatePacker.unpackY(pos),
+                    z = CoordinatePacker.unpackZ(pos);
+                // it may have been broken again since
+                if (world.getBlock(x, y, z) == cell && cells.add(pos)) queue.enqueue(pos);
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            final long pos = queue.dequeueLong();
+            final int x = CoordinatePacker.unpackX(pos), y = CoordinatePacker.unpackY(pos),
+                z = CoordinatePacker.unpackZ(pos);
+
+            for (ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+                final int nx = x + side.offsetX, ny = y + side.offsetY, nz = z + side.offsetZ;
+                final long neighbour = CoordinatePacker.pack(nx, ny, nz);
+                if (neighbour == controller || cells.contains(neighbour)) continue;
+
+                if (world.getBlock(nx, ny, nz) == cell) {
+                    cells.add(neighbour);
+                    queue.enqueue(neighbour);
+                } else if (world.getTileEntity(nx, ny, nz) instanceof IGregTechTileEntity gtTE
+                    && gtTE.getMetaTileID() == controllerID) {
+                        touchesOtherController = true;
+                    }
+            }
+        }
+    }
+}
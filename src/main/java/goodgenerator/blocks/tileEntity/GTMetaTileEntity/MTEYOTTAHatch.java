@@ -3,7 +3,6 @@ package goodgenerator.blocks.tileEntity.GTMetaTileEntity;
 import static net.minecraft.util.StatCollector.translateToLocal;
 import static net.minecraft.util.StatCollector.translateToLocalFormatted;
 
-import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -50,13 +49,12 @@ import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.metatileentity.implementations.MTEHatch;
 import gregtech.api.render.TextureFactory;
 import gregtech.api.util.GTUtility;
+import gregtech.api.util.MutableInt128;
 
 public class MTEYOTTAHatch extends MTEHatch implements IGridProxyable, IActionHost, ICellContainer,
     IMEInventory<IAEFluidStack>, IMEInventoryHandler<IAEFluidStack>, IPowerChannelState {
 
     private static final IIconContainer textureFont = new Textures.BlockIcons.CustomIcon("icons/YOTTAHatch");
-    private static final BigInteger LONG_MAX = BigInteger.valueOf(Long.MAX_VALUE);
-    private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
 
     private MTEYottaFluidTank host;
     private AENetworkProxy gridProxy = null;
@@ -64,14 +62,14 @@ public class MTEYOTTAHatch extends MTEHatch implements IGridProxyable, IActionHo
     private boolean isSticky = false;
     private byte tickRate = 20;
     private FluidStack lastFluid = null;
-    private BigInteger lastAmt = BigInteger.ZERO;
+    private final MutableInt128 lastAmt = new MutableInt128();
+    /** Scratch value for computing storage deltas, to avoid allocating */
+    private final MutableInt128 delta = new MutableInt128();
     private AccessRestriction readMode = AccessRestriction.READ_WRITE;
     private final AccessRestriction[] AEModes = new AccessRestriction[] { AccessRestriction.NO_ACCESS,
         AccessRestriction.READ, AccessRestriction.WRITE, AccessRestriction.READ_WRITE };
     private final BaseActionSource mySrc = new MachineSource(this);
 
-    private static final BigInteger MAX_LONG_BIGINT = BigInteger.valueOf(Long.MAX_VALUE);
-
     public MTEYOTTAHatch(int aID, String aName, String aNameRegional, int aTier) {
         super(
             aID,
@@ -228,10 +226,7 @@ public class MTEYOTTAHatch extends MTEHatch implements IGridProxyable, IActionHo
                 .isActive())
             return out;
         if (host.mFluid == null || host.mStorageCurrent.signum() <= 0) return out;
-        long ready;
-        if (host.mStorageCurrent.compareTo(MAX_LONG_BIGINT) >= 0) {
-            ready = Long.MAX_VALUE;
-        } else ready = host.mStorageCurrent.longValue();
+        long ready = host.mStorageCurrent.longValueClamped();
         out.add(StackUtils.createAEFluidStack(host.mFluid.getFluid(), ready));
         return out;
     }
@@ -276,17 +271,14 @@ public class MTEYOTTAHatch extends MTEHatch implements IGridProxyable, IActionHo
         getProxy().onReady();
     }
 
-    private void postUpdate(AENetworkProxy proxy, FluidStack fluid, BigInteger amt) {
+    private void postUpdate(AENetworkProxy proxy, FluidStack fluid, long amt) {
         try {
             proxy.getStorage()
                 .postAlterationOfStoredItems(
                     StorageChannel.FLUIDS,
                     Collections.singletonList(
                         AEFluidStack.create(fluid)
-                            .setStackSize(
-                                amt.min(LONG_MAX)
-                                    .max(LONG_MIN)
-                                    .longValue())),
+                            .setStackSize(amt)),
                     this.mySrc);
         } catch (GridAccessException e) {
             // :P
@@ -299,19 +291,24 @@ public class MTEYOTTAHatch extends MTEHatch implements IGridProxyable, IActionHo
             if (this.lastFluid != null && this.host.mFluid != null) {
                 if (this.lastFluid != this.host.mFluid) {
                     // post removal of last fluid
-                    postUpdate(proxy, this.lastFluid, this.lastAmt.negate());
+                    postUpdate(proxy, this.lastFluid, -this.lastAmt.longValueClamped());
                     // post new fluid
-                    postUpdate(proxy, this.host.mFluid, this.host.mStorageCurrent);
+                    postUpdate(proxy, this.host.mFluid, this.host.mStorageCurrent.longValueClamped());
                 } else {
                     // post difference
-                    postUpdate(proxy, this.host.mFluid, this.host.mStorageCurrent.subtract(this.lastAmt));
+                    postUpdate(
+                        proxy,
+                        this.host.mFluid,
+                        this.delta.set(this.host.mStorageCurrent)
+                            .subtract(this.lastAmt)
+                            .longValueClamped());
                 }
             } else if (this.lastFluid != null) {
                 // post removal of last fluid
-                postUpdate(proxy, this.lastFluid, this.lastAmt.negate());
+                postUpdate(proxy, this.lastFluid, -this.lastAmt.longValueClamped());
             } else if (this.host.mFluid != null) {
                 // post new fluid
-                postUpdate(proxy, this.host.mFluid, this.host.mStorageCurrent);
+                postUpdate(proxy, this.host.mFluid, this.host.mStorageCurrent.longValueClamped());
             }
         }
         update();
@@ -336,9 +333,7 @@ public class MTEYOTTAHatch extends MTEHatch implements IGridProxyable, IActionHo
             || !host.getBaseMetaTileEntity()
                 .isActive())
             return 0;
-        if (host.mStorage.compareTo(MTEYottaFluidTank.MAX_INT_BIGINT) >= 0) {
-            return Integer.MAX_VALUE;
-        } else return host.mStorage.intValue();
+        return host.mStorage.intValueClamped();
     }
 
     @Override
@@ -361,10 +356,9 @@ public class MTEYOTTAHatch extends MTEHatch implements IGridProxyable, IActionHo
                 if (host.getIsVoidExcessEnabled()) {
                     returned = resource.amount;
                 } else {
-                    final BigInteger delta = host.mStorage.subtract(host.mStorageCurrent);
-                    returned = delta.intValueExact();
+                    returned = (int) host.getRemainingCapacity();
                 }
-                if (doFill) host.mStorageCurrent = host.mStorage;
+                if (doFill) host.mStorageCurrent.set(host.mStorage);
                 return returned;
             }
         }
@@ -390,10 +384,9 @@ public class MTEYOTTAHatch extends MTEHatch implements IGridProxyable, IActionHo
                 if (host.getIsVoidExcessEnabled()) {
                     returned = resource.getStackSize();
                 } else {
-                    final BigInteger delta = host.mStorage.subtract(host.mStorageCurrent);
-                    returned = delta.longValueExact();
+                    returned = host.getRemainingCapacity();
                 }
-                if (doFill) host.mStorageCurrent = host.mStorage;
+                if (doFill) host.mStorageCurrent.set(host.mStorage);
                 return returned;
             }
         }
@@ -407,11 +400,7 @@ public class MTEYOTTAHatch extends MTEHatch implements IGridProxyable, IActionHo
                 .isActive())
             return null;
         if (host.mFluid == null || host.mFluid.getFluid() != resource.getFluid()) return null;
-        int ready;
-        if (host.mStorageCurrent.compareTo(MTEYottaFluidTank.MAX_INT_BIGINT) >= 0) {
-            ready = Integer.MAX_VALUE;
-        } else ready = host.mStorageCurrent.intValue();
-        ready = Math.min(ready, resource.amount);
+        int ready = Math.min(host.mStorageCurrent.intValueClamped(), resource.amount);
         if (doDrain) {
             host.reduceFluid(ready);
         }
@@ -425,11 +414,7 @@ public class MTEYOTTAHatch extends MTEHatch implements IGridProxyable, IActionHo
                 .isActive())
             return null;
         if (host.mFluid == null || host.mFluid.getFluid() != resource.getFluid()) return null;
-        long ready;
-        if (host.mStorageCurrent.compareTo(MAX_LONG_BIGINT) > 0) {
-            ready = Long.MAX_VALUE;
-        } else ready = host.mStorageCurrent.longValue();
-        ready = Math.min(ready, resource.getStackSize());
+        long ready = Math.min(host.mStorageCurrent.longValueClamped(), resource.getStackSize());
         if (doDrain) {
             host.reduceFluid(ready);
         }
@@ -552,7 +537,7 @@ public class MTEYOTTAHatch extends MTEHatch implements IGridProxyable, IActionHo
 
     private void update() {
         if (this.host == null) return;
-        this.lastAmt = this.host.mStorageCurrent;
+        this.lastAmt.set(this.host.mStorageCurrent);
         this.lastFluid = this.host.mFluid;
     }
 
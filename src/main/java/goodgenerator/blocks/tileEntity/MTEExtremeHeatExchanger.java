@@ -456,9 +456,9 @@ public class MTEExtremeHeatExchanger extends MTETooltipMultiBlockBaseEM
 
     @Override
     public void endRecipeProcessing() {
-        super.endRecipeProcessing();
         if (mHotFluidHatch instanceof IRecipeProcessingAwareHatch aware && mHotFluidHatch.isValid()) {
             aware.endRecipeProcessing(this);
         }
+        super.endRecipeProcessing();
     }
 }
@@ -60,6 +60,7 @@ import gregtech.api.render.TextureFactory;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.LongRunningAverage;
 import gregtech.api.util.MultiblockTooltipBuilder;
+import gregtech.api.util.MutableInt128;
 import gregtech.common.misc.GTStructureChannels;
 import tectech.TecTech;
 import tectech.thing.gui.TecTechUITextures;
@@ -80,12 +81,10 @@ public class MTEYottaFluidTank extends MTETooltipMultiBlockBaseEM implements ICo
     protected IStructureDefinition<MTEYottaFluidTank> multiDefinition = null;
     protected final ArrayList<MTEYOTTAHatch> mYottaHatch = new ArrayList<>();
 
-    private static final BigInteger ONE_HUNDRED = BigInteger.valueOf(100);
-
     /** Tank capacity */
-    public BigInteger mStorage = BigInteger.ZERO;
+    public final MutableInt128 mStorage = new MutableInt128();
     /** Amount of fluid millibuckets currently in the tank */
-    public BigInteger mStorageCurrent = BigInteger.ZERO;
+    public final MutableInt128 mStorageCurrent = new MutableInt128();
     /**
      * Fluid type currently stored in the tank, can be null. Stack size is always 1, real amount is stored in
      * mStorageCurrent.
@@ -104,8 +103,8 @@ public class MTEYottaFluidTank extends MTETooltipMultiBlockBaseEM implements ICo
     protected final String YOTTANK_TOP = mName + "top";
     protected final NumberFormatMUI numberFormat = new NumberFormatMUI();
     private int workTickCounter = 0;
-
-    public static final BigInteger MAX_INT_BIGINT = BigInteger.valueOf(Integer.MAX_VALUE);
+    /** Scratch value for per-tick calculations, to avoid allocating */
+    private final MutableInt128 scratch = new MutableInt128();
 
     protected boolean voidExcessEnabled = false;
 
@@ -136,11 +135,11 @@ public class MTEYottaFluidTank extends MTETooltipMultiBlockBaseEM implements ICo
     }
 
     public String getCap() {
-        return mStorage.toString(10);
+        return mStorage.toString();
     }
 
     public String getStored() {
-        return mStorageCurrent.toString(10);
+        return mStorageCurrent.toString();
     }
 
     public String getFluidName() {
@@ -160,8 +159,8 @@ public class MTEYottaFluidTank extends MTETooltipMultiBlockBaseEM implements ICo
         String tAmountCurrent = aNBT.getString("mStorageCurrent");
         if (StringUtils.isEmpty(tAmount)) tAmount = "0";
         if (StringUtils.isEmpty(tAmountCurrent)) tAmountCurrent = "0";
-        mStorage = new BigInteger(tAmount, 10);
-        mStorageCurrent = new BigInteger(tAmountCurrent, 10);
+        mStorage.set(new BigInteger(tAmount, 10));
+        mStorageCurrent.set(new BigInteger(tAmountCurrent, 10));
         mFluid = FluidRegistry.getFluidStack(aNBT.getString("mFluidName"), 1);
         mLockedFluid = FluidRegistry.getFluidStack(aNBT.getString("mLockedFluidName"), 1);
         voidExcessEnabled = aNBT.getBoolean("voidExcessEnabled");
@@ -171,8 +170,8 @@ public class MTEYottaFluidTank extends MTETooltipMultiBlockBaseEM implements ICo
 
     @Override
     public void saveNBTData(NBTTagCompound aNBT) {
-        aNBT.setString("mStorage", mStorage.toString(10));
-        aNBT.setString("mStorageCurrent", mStorageCurrent.toString(10));
+        aNBT.setString("mStorage", mStorage.toString());
+        aNBT.setString("mStorageCurrent", mStorageCurrent.toString());
         aNBT.setString(
             "mFluidName",
             mFluid == null ? ""
@@ -206,11 +205,10 @@ public class MTEYottaFluidTank extends MTETooltipMultiBlockBaseEM implements ICo
      * @return True if successfully removed amount, false if no fluid was removed.
      */
     public boolean reduceFluid(long amount) {
-        final BigInteger bigAmount = BigInteger.valueOf(amount);
-        if (mStorageCurrent.compareTo(bigAmount) < 0) {
+        if (mStorageCurrent.compareTo(amount) < 0) {
             return false;
         } else {
-            mStorageCurrent = mStorageCurrent.subtract(bigAmount);
+            mStorageCurrent.subtract(amount);
             return true;
         }
     }
@@ -224,25 +222,34 @@ public class MTEYottaFluidTank extends MTETooltipMultiBlockBaseEM implements ICo
      * @return True if successfully added the given amount of fluid to the tank, false if failed.
      */
     public boolean addFluid(long amount, boolean doFill) {
-        final BigInteger bigAmount = BigInteger.valueOf(amount);
-        final BigInteger newTotal = mStorageCurrent.add(bigAmount);
+        final MutableInt128 newTotal = scratch.set(mStorageCurrent)
+            .add(amount);
         if (newTotal.compareTo(mStorage) > 0) {
             return false;
         } else {
             if (doFill) {
-                mStorageCurrent = newTotal;
+                mStorageCurrent.set(newTotal);
             }
             return true;
         }
     }
 
+    /**
+     * Returns how much more fluid fits into the tank, clamped to a {@code long}.
+     */
+    public long getRemainingCapacity() {
+        return scratch.set(mStorage)
+            .subtract(mStorageCurrent)
+            .longValueClamped();
+    }
+
     // Avoid allocating a new array on every query
     private final FluidTankInfo[] tankInfoCache = new FluidTankInfo[1];
 
     @Override
     public FluidTankInfo[] getTankInfo(ForgeDirection aSide) {
-        int fluidSize = mStorageCurrent.compareTo(MAX_INT_BIGINT) >= 0 ? Integer.MAX_VALUE : mStorageCurrent.intValue();
-        int tankCapacity = mStorage.compareTo(MAX_INT_BIGINT) >= 0 ? Integer.MAX_VALUE : mStorage.intValue();
+        int fluidSize = mStorageCurrent.intValueClamped();
+        int tankCapacity = mStorage.intValueClamped();
         final boolean cacheNeedsRecreation;
         if (tankInfoCache[0] == null || tankInfoCache[0].capacity != tankCapacity) {
             cacheNeedsRecreation = true;
@@ -268,7 +275,7 @@ public class MTEYottaFluidTank extends MTETooltipMultiBlockBaseEM implements ICo
 
     @Override
     public boolean checkMachine_EM(IGregTechTileEntity aBaseMetaTileEntity, ItemStack aStack) {
-        mStorage = BigInteger.ZERO;
+        mStorage.setZero();
         glassTier = -1;
         maxCell = 0;
         if (!structureCheck_EM(YOTTANK_BOTTOM, 2, 0, 0)) return false;
@@ -280,9 +287,9 @@ public class MTEYottaFluidTank extends MTETooltipMultiBlockBaseEM implements ICo
         if (!structureCheck_EM(YOTTANK_TOP, 2, cnt + 2, 0)) return false;
         // maxCell+1 = Tier of highest Cell. glassTier is the glass voltage tier
         if (maxCell + 3 <= glassTier) {
-            if (mStorage.compareTo(mStorageCurrent) < 0) mStorageCurrent = mStorage;
+            mStorageCurrent.min(mStorage);
             if (mFluid == null) {
-                mStorageCurrent = BigInteger.ZERO;
+                mStorageCurrent.setZero();
             }
             return true;
         }
@@ -337,7 +344,7 @@ public class MTEYottaFluidTank extends MTETooltipMultiBlockBaseEM implements ICo
         for (int i = 0; i < num; ++i) {
             int finalI = i;
             out.add(onElementPass(x -> {
-                x.mStorage = x.mStorage.add(calStorage(finalI));
+                x.mStorage.add(storageWithCells[finalI]);
                 x.maxCell = Math.max(x.maxCell, finalI);
             }, ofBlock(Loaders.yottaFluidTankCell, i)));
         }
@@ -402,8 +409,9 @@ public class MTEYottaFluidTank extends MTETooltipMultiBlockBaseEM implements ICo
     private String getPercent() {
         if (mStorage.signum() == 0) return "0";
         return valueOf(
-            mStorageCurrent.multiply(BigInteger.valueOf(10000))
-                .divide(mStorage)
+            mStorageCurrent.toBigInteger()
+                .multiply(BigInteger.valueOf(10000))
+                .divide(mStorage.toBigInteger())
                 .doubleValue() / 100);
     }
 
@@ -462,21 +470,21 @@ public class MTEYottaFluidTank extends MTETooltipMultiBlockBaseEM implements ICo
         return tt;
     }
 
-    private static final BigInteger[] storageWithCells;
+    private static final MutableInt128[] storageWithCells;
 
     static {
-        storageWithCells = new BigInteger[10];
+        storageWithCells = new MutableInt128[10];
         final BigInteger baseStorage = BigInteger.valueOf(1_000_000);
         final BigInteger storageMultiplier = BigInteger.valueOf(100);
         BigInteger currentStorage = baseStorage;
         for (int i = 0; i < 10; i++) {
-            storageWithCells[i] = currentStorage;
+            storageWithCells[i] = new MutableInt128(currentStorage);
             currentStorage = currentStorage.multiply(storageMultiplier);
         }
     }
 
-    public BigInteger calStorage(int meta) {
-        return storageWithCells[meta];
+    public MutableInt128 calStorage(int meta) {
+        return storageWithCells[meta].copy();
     }
 
     @Override
@@ -518,26 +526,23 @@ public class MTEYottaFluidTank extends MTETooltipMultiBlockBaseEM implements ICo
                     if (voidExcessEnabled) {
                         tFluid.amount = 0;
                     } else {
-                        final BigInteger delta = mStorage.subtract(mStorageCurrent);
-                        tFluid.amount -= delta.intValueExact();
+                        tFluid.amount -= (int) getRemainingCapacity();
                     }
-                    mStorageCurrent = mStorage;
+                    mStorageCurrent.set(mStorage);
                 }
             }
         }
 
-        if (mStorageCurrent.compareTo(BigInteger.ZERO) <= 0) {
+        if (mStorageCurrent.signum() <= 0) {
             mFluid = null;
         }
 
         if (mFluid != null) {
             // Try to drain 1% of the tank per tick
-            int outputAmount = mStorageCurrent.divide(ONE_HUNDRED)
-                .min(MAX_INT_BIGINT)
-                .max(BigInteger.ONE)
-                .intValueExact();
+            int outputAmount = (int) Math
+                .max(1L, Math.min(Integer.MAX_VALUE, mStorageCurrent.longValueClamped() / 100));
             if (outputAmount != 1) outputAmount = (int) Math.min(Integer.MAX_VALUE, (long) outputAmount * tickRate);
-            else outputAmount = Math.min(mStorageCurrent.intValueExact(), outputAmount * (int) tickRate);
+            else outputAmount = Math.min(mStorageCurrent.intValueClamped(), outputAmount * (int) tickRate);
 
             final int originalOutputAmount = outputAmount;
 
@@ -568,7 +573,7 @@ public class MTEYottaFluidTank extends MTETooltipMultiBlockBaseEM implements ICo
 
             final int totalDrainedAmount = originalOutputAmount - outputAmount;
             if (totalDrainedAmount > 0) {
-                mStorageCurrent = mStorageCurrent.subtract(BigInteger.valueOf(totalDrainedAmount));
+                mStorageCurrent.subtract(totalDrainedAmount);
                 if (mStorageCurrent.signum() < 0) {
                     throw new IllegalStateException(
                         "YOTTank drained beyond its fluid amount, indicating logic bug: " + mStorageCurrent);
@@ -690,11 +695,13 @@ public class MTEYottaFluidTank extends MTETooltipMultiBlockBaseEM implements ICo
         screenElements
             .widget(
                 new TextWidget().setStringSupplier(
-                    () -> StatCollector.translateToLocal("gui.YOTTank.0") + " " + numberFormat.format(mStorage) + " L")
+                    () -> StatCollector.translateToLocal("gui.YOTTank.0") + " "
+                        + numberFormat.format(mStorage.toBigInteger())
+                        + " L")
                     .setTextAlignment(Alignment.CenterLeft)
                     .setDefaultColor(COLOR_TEXT_WHITE.get())
                     .setEnabled(widget -> getErrorDisplayID() == 0))
-            .widget(new FakeSyncWidget.BigIntegerSyncer(() -> mStorage, val -> mStorage = val))
+            .widget(new FakeSyncWidget.BigIntegerSyncer(mStorage::toBigInteger, mStorage::set))
             .widget(
                 new TextWidget()
                     .setStringSupplier(() -> StatCollector.translateToLocal("gui.YOTTank.1") + " " + getFluidName())
@@ -706,7 +713,7 @@ public class MTEYottaFluidTank extends MTETooltipMultiBlockBaseEM implements ICo
                 new TextWidget()
                     .setStringSupplier(
                         () -> StatCollector.translateToLocal("gui.YOTTank.2") + " "
-                            + numberFormat.format(mStorageCurrent)
+                            + numberFormat.format(mStorageCurrent.toBigInteger())
                             + EnumChatFormatting.RESET
                             + " L"
                             + " ("
@@ -718,7 +725,7 @@ public class MTEYottaFluidTank extends MTETooltipMultiBlockBaseEM implements ICo
                     .setTextAlignment(Alignment.CenterLeft)
                     .setDefaultColor(COLOR_TEXT_WHITE.get())
                     .setEnabled(widget -> getErrorDisplayID() == 0))
-            .widget(new FakeSyncWidget.BigIntegerSyncer(() -> mStorageCurrent, val -> mStorageCurrent = val))
+            .widget(new FakeSyncWidget.BigIntegerSyncer(mStorageCurrent::toBigInteger, mStorageCurrent::set))
             .widget(
                 new TextWidget()
                     .setStringSupplier(
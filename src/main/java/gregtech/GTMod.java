@@ -763,6 +763,7 @@ public class GTMod {
 
     @Mod.EventHandler
     public void onIDChangingEvent(FMLModIdMappingEvent event) {
+        GTItemStack.onItemIDsChanged();
         GTUtility.reInit();
         GTRecipe.reInit();
         for (Map<?, ?> gt_itemStackMap : GregTechAPI.sItemStackMappings) {
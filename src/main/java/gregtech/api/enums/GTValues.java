@@ -361,6 +361,10 @@ public class GTValues {
      * Debug parameter for {@link GTChunkAssociatedData}
      */
     public static boolean debugWorldData = false;
+    /**
+     * Whether {@link GTChunkAssociatedData} regions are saved deflate-compressed
+     */
+    public static boolean compressWorldData = false;
     /**
      * Number of ticks between sending sound packets to clients for electric machines. Default is 1.5 seconds. Trying to
      * mitigate lag and FPS drops.
@@ -0,0 +1,35 @@
+package gregtech.api.interfaces.metatileentity;
+
+import net.minecraftforge.common.util.ForgeDirection;
+
+import gregtech.api.interfaces.ITexture;
+import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
+
+/**
+ * Implement this interface if the active state of your MetaTileEntity only changes overlays drawn on top of otherwise
+ * static textures.
+ * <p>
+ * If enabled in the client config, only the static textures are baked into the chunk mesh and the overlays are drawn
+ * every frame by {@link gregtech.common.render.DynamicOverlayRenderer}, so that toggling the active state does not
+ * rebuild the whole render chunk.
+ */
+public interface IDynamicOverlay {
+
+    /**
+     * @return false if the textures of this machine can't be split into static textures and overlays, in which case
+     *         it is rendered like any other machine
+     */
+    boolean hasDynamicOverlay();
+
+    /**
+     * @return The textures of the given side that don't depend on the active state
+     */
+    ITexture[] getStaticTexture(IGregTechTileEntity baseMetaTileEntity, ForgeDirection side, ForgeDirection facing,
+        int colorIndex, boolean redstoneLevel);
+
+    /**
+     * @return The textures drawn on top of the static textures of the given side, may be empty
+     */
+    ITexture[] getOverlayTexture(IGregTechTileEntity baseMetaTileEntity, ForgeDirection side, ForgeDirection facing,
+        int colorIndex, boolean active);
+}
@@ -7,6 +7,7 @@ import net.minecraftforge.common.util.ForgeDirection;
 
 import cofh.api.energy.IEnergyReceiver;
 import gregtech.api.GregTechAPI;
+import gregtech.api.metrics.GTMetrics;
 import gregtech.api.util.GTUtility;
 import ic2.api.energy.tile.IEnergySink;
 
@@ -93,6 +94,7 @@ public interface IEnergyConnected extends IColoredTileEntity {
                     }
                 }
             }
+            GTMetrics.EU_EMITTED.add(usedAmperes * voltage);
             return usedAmperes;
         }
     }
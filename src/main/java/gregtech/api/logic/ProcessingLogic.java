@@ -18,6 +18,7 @@ import net.minecraftforge.fluids.FluidStack;
 import gregtech.api.enums.GTValues;
 import gregtech.api.interfaces.tileentity.IRecipeLockable;
 import gregtech.api.interfaces.tileentity.IVoidable;
+import gregtech.api.metrics.GTMetrics;
 import gregtech.api.objects.GTDualInputPattern;
 import gregtech.api.recipe.RecipeMap;
 import gregtech.api.recipe.check.CheckRecipeResult;
@@ -412,7 +413,12 @@ public class ProcessingLogic {
         Stream<GTRecipe> matchedRecipes = findRecipeMatches(recipeMap);
         Iterable<GTRecipe> recipeIterable = matchedRecipes::iterator;
         CheckRecipeResult checkRecipeResult = CheckRecipeResultRegistry.NO_RECIPE;
+        boolean matchedAny = false;
         for (GTRecipe matchedRecipe : recipeIterable) {
+            if (!matchedAny) {
+                matchedAny = true;
+                GTMetrics.RECIPE_LOOKUP_HITS.increment();
+            }
             CalculationResult foundResult = validateAndCalculateRecipe(matchedRecipe);
             if (foundResult.successfullyConsumedInputs) {
                 // Successfully found and set recipe, so return it
@@ -423,6 +429,7 @@ public class ProcessingLogic {
                 checkRecipeResult = foundResult.checkRecipeResult;
             }
         }
+        if (!matchedAny) GTMetrics.RECIPE_LOOKUP_MISSES.increment();
         return checkRecipeResult;
     }
 
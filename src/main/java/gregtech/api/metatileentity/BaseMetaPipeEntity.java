@@ -9,6 +9,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import net.minecraft.block.Block;
 import net.minecraft.entity.player.EntityPlayer;
@@ -28,6 +29,7 @@ import net.minecraftforge.fluids.IFluidHandler;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import gregtech.GTMod;
 import gregtech.api.GregTechAPI;
 import gregtech.api.covers.CoverRegistry;
 import gregtech.api.enums.GTValues;
@@ -45,6 +47,7 @@ import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.interfaces.tileentity.IPipeRenderedTileEntity;
 import gregtech.api.net.GTPacketCreateTE;
 import gregtech.api.net.GTPacketTileEntity;
+import gregtech.api.net.GTPacketTileEntityDelta;
 import gregtech.api.util.GTModHandler;
 import gregtech.api.util.GTOreDictUnificator;
 import gregtech.api.util.GTUtility;
@@ -60,6 +63,9 @@ import mcp.mobius.waila.api.IWailaDataAccessor;
 public class BaseMetaPipeEntity extends CommonBaseMetaTileEntity
     implements IGregTechTileEntity, IPipeRenderedTileEntity, IDebugableTileEntity {
 
+    /** Textures of pipes with {@link MetaPipeEntity#hasSharedTextures()}, keyed by meta ID and render state */
+    private static final Map<Long, ITexture[]> SHARED_TEXTURES = new ConcurrentHashMap<>();
+
     public byte mConnections = IConnectable.NO_CONNECTION;
     protected MetaPipeEntity mMetaTileEntity;
     private boolean mWorkUpdate = false, mWorks = true;
@@ -227,29 +233,33 @@ public class BaseMetaPipeEntity extends CommonBaseMetaTileEntity
                 }
 
                 if (mTickTimer > 10) {
+                    int changedMask = 0;
+
                     if (mConnections != oldConnections) {
                         oldConnections = mConnections;
-                        sendBlockEvent(GregTechTileClientEvents.CHANGE_COMMON_DATA, oldConnections);
+                        changedMask |= GTPacketTileEntityDelta.COMMON_DATA;
                     }
 
                     byte updateData = mMetaTileEntity.getUpdateData();
 
                     if (updateData != oldUpdateData) {
                         oldUpdateData = updateData;
-                        sendBlockEvent(GregTechTileClientEvents.CHANGE_CUSTOM_DATA, oldUpdateData);
+                        changedMask |= GTPacketTileEntityDelta.CUSTOM_DATA;
                     }
 
                     if (mColor != oldColor) {
                         oldColor = mColor;
-                        sendBlockEvent(GregTechTileClientEvents.CHANGE_COLOR, oldColor);
+                        changedMask |= GTPacketTileEntityDelta.COLOR;
                     }
 
                     byte redstone = getSidedRedstoneMask();
 
                     if (redstone != oldRedstoneData) {
                         oldRedstoneData = redstone;
-                        sendBlockEvent(GregTechTileClientEvents.CHANGE_REDSTONE_OUTPUT, oldRedstoneData);
+                        changedMask |= GTPacketTileEntityDelta.REDSTONE_OUTPUT;
                     }
+
+                    sendClientDelta(changedMask, oldConnections, oldUpdateData, oldColor, oldRedstoneData);
                 }
 
                 if (mNeedsBlockUpdate) {
@@ -725,13 +735,29 @@ public class BaseMetaPipeEntity extends CommonBaseMetaTileEntity
                 | IConnectable.CONNECTED_SOUTH;
             default -> connexions;
         };
-        return mMetaTileEntity.getTexture(
-            this,
-            sideDirection,
-            tConnections,
-            mColor - 1,
-            tConnections == 0 || (tConnections & sideDirection.flag) != 0,
-            getOutputRedstoneSignal(sideDirection) > 0);
+        final boolean connected = tConnections == 0 || (tConnections & sideDirection.flag) != 0;
+        final boolean redstoneLevel = getOutputRedstoneSignal(sideDirection) > 0;
+        if (!mMetaTileEntity.hasSharedTextures()) {
+            return mMetaTileEntity
+                .getTexture(this, sideDirection, tConnections, mColor - 1, connected, redstoneLevel);
+        }
+
+        // the rendered thickness changes while a soldering iron is held
+        final boolean hidden = GTMod.GT.isClientSide() && GTMod.clientProxy()
+            .shouldHideThings();
+        final int state = (redstoneLevel ? 1 : 0) | (connected ? 2 : 0)
+            | mColor << 2
+            | (tConnections & 0xFF) << 7
+            | sideDirection.ordinal() << 15
+            | (hidden ? 1 << 18 : 0);
+        final long key = (long) mID << 32 | state;
+        ITexture[] textures = SHARED_TEXTURES.get(key);
+        if (textures == null) {
+            textures = mMetaTileEntity
+                .getTexture(this, sideDirection, tConnections, mColor - 1, connected, redstoneLevel);
+            SHARED_TEXTURES.put(key, textures);
+        }
+        return textures;
     }
 
     @Override
@@ -62,6 +62,7 @@ import gregtech.api.graphs.GenerateNodeMap;
 import gregtech.api.graphs.GenerateNodeMapPower;
 import gregtech.api.graphs.Node;
 import gregtech.api.interfaces.ITexture;
+import gregtech.api.interfaces.metatileentity.IDynamicOverlay;
 import gregtech.api.interfaces.metatileentity.IMetaTileEntity;
 import gregtech.api.interfaces.tileentity.IDebugableTileEntity;
 import gregtech.api.interfaces.tileentity.IEnergyConnected;
@@ -69,6 +70,7 @@ import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.interfaces.tileentity.IGregtechWailaProvider;
 import gregtech.api.metatileentity.implementations.MTEBasicMachine;
 import gregtech.api.net.GTPacketTileEntity;
+import gregtech.api.net.GTPacketTileEntityDelta;
 import gregtech.api.objects.blockupdate.BlockUpdateHandler;
 import gregtech.api.util.GTLog;
 import gregtech.api.util.GTModHandler;
@@ -78,6 +80,7 @@ import gregtech.api.util.shutdown.ShutDownReason;
 import gregtech.api.util.shutdown.ShutDownReasonRegistry;
 import gregtech.common.covers.Cover;
 import gregtech.common.pollution.Pollution;
+import gregtech.common.render.DynamicOverlayRenderer;
 import gregtech.common.render.IMTERenderer;
 import gregtech.mixin.interfaces.accessors.EntityItemAccessor;
 import gtPlusPlus.xmod.gregtech.api.metatileentity.implementations.base.MTESteamMultiBase;
@@ -121,6 +124,8 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
     private String mOwnerName = "";
     private UUID mOwnerUuid = GTUtility.defaultUuid;
     private int cableUpdateDelay = 30;
+    /** Client only, true while the overlays are drawn by the {@link DynamicOverlayRenderer} */
+    private boolean mDynamicOverlay = false;
 
     public BaseMetaTileEntity() {}
 
@@ -295,6 +300,14 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
                     mRunningThroughTick = false;
                     return;
                 }
+                if (!isServerSide && GTMod.proxy.mRenderDynamicOverlays
+                    && mMetaTileEntity instanceof IDynamicOverlay overlay
+                    && overlay.hasDynamicOverlay()) {
+                    mDynamicOverlay = true;
+                    DynamicOverlayRenderer.INSTANCE.add(this);
+                    // drop the overlays from the chunk mesh
+                    issueTextureUpdate();
+                }
             }
             if (isClientSide()) {
                 if (mColor != oldColor) {
@@ -321,6 +334,7 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
                     } else {
                         worldObj.markBlockForUpdate(xCoord, yCoord, zCoord);
                     }
+                    if (mDynamicOverlay) DynamicOverlayRenderer.INSTANCE.markDirty(this);
                     mMetaTileEntity.onTextureUpdate();
                     mNeedsUpdate = false;
                 }
@@ -556,30 +570,34 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
                         | (mWorks ? 64 : 0)
                         | (mMuffler ? 128 : 0));
 
+                    int changedMask = 0;
+
                     if (textureData != oldTextureData) {
                         oldTextureData = textureData;
-                        sendBlockEvent(GregTechTileClientEvents.CHANGE_COMMON_DATA, oldTextureData);
+                        changedMask |= GTPacketTileEntityDelta.COMMON_DATA;
                     }
 
                     byte updateData = mMetaTileEntity.getUpdateData();
 
                     if (updateData != oldUpdateData) {
                         oldUpdateData = updateData;
-                        sendBlockEvent(GregTechTileClientEvents.CHANGE_CUSTOM_DATA, oldUpdateData);
+                        changedMask |= GTPacketTileEntityDelta.CUSTOM_DATA;
                     }
 
                     if (mColor != oldColor) {
                         oldColor = mColor;
-                        sendBlockEvent(GregTechTileClientEvents.CHANGE_COLOR, oldColor);
+                        changedMask |= GTPacketTileEntityDelta.COLOR;
                     }
 
                     byte redstone = getSidedRedstoneMask();
 
                     if (redstone != oldRedstoneData) {
                         oldRedstoneData = redstone;
-                        sendBlockEvent(GregTechTileClientEvents.CHANGE_REDSTONE_OUTPUT, oldRedstoneData);
+                        changedMask |= GTPacketTileEntityDelta.REDSTONE_OUTPUT;
                     }
 
+                    sendClientDelta(changedMask, oldTextureData, oldUpdateData, oldColor, oldRedstoneData);
+
                     if (mLightValue != oldLightValue) {
                         worldObj.setLightValue(EnumSkyBlock.Block, xCoord, yCoord, zCoord, mLightValue);
                         worldObj.updateLightByType(EnumSkyBlock.Block, xCoord, yCoord, zCoord);
@@ -645,6 +663,10 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
         }
     }
 
+    /**
+     * Sends the complete client state, including the covers, to everyone watching the chunk if an update was issued.
+     * Changes of single fields between these go out as {@link GTPacketTileEntityDelta} instead.
+     */
     private void sendClientData() {
         if (mSendClientData) {
             oldTextureData = (byte) ((mFacing.ordinal() & 7) | (mActive ? 8 : 0)
@@ -714,7 +736,12 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
         }
 
         if (isClientSide()) {
-            issueTextureUpdate();
+            if (mDynamicOverlay && aEventID == GregTechTileClientEvents.CHANGE_COMMON_DATA
+                && changesOnlyActiveState(aValue)) {
+                DynamicOverlayRenderer.INSTANCE.markDirty(this);
+            } else {
+                issueTextureUpdate();
+            }
             switch (aEventID) {
                 case GregTechTileClientEvents.CHANGE_COMMON_DATA -> {
                     mFacing = ForgeDirection.getOrientation((byte) (aValue & 7));
@@ -752,6 +779,15 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
         return true;
     }
 
+    /**
+     * @return true if the given common data only differs from the current state in whether this machine is active
+     */
+    private boolean changesOnlyActiveState(int aCommonData) {
+        final int current = (mFacing.ordinal() & 7) | (mRedstone ? 16 : 0) | (mWorks ? 64 : 0) | (mMuffler ? 128 : 0);
+        // the upgrade lock is not tracked on the client
+        return ((aCommonData ^ current) & ~(8 | 32) & 0xFF) == 0;
+    }
+
     @Override
     public ArrayList<String> getDebugInfo(EntityPlayer aPlayer, int aLogLevel) {
         final ArrayList<String> tList = new ArrayList<>();
@@ -894,6 +930,7 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
     @Override
     public void invalidate() {
         tileEntityInvalid = false;
+        removeDynamicOverlay();
         leaveEnet();
         if (canAccessData()) {
             invalidateAE();
@@ -905,6 +942,7 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
 
     @Override
     public void onChunkUnload() {
+        removeDynamicOverlay();
         if (canAccessData()) {
             onCoverUnload();
             mMetaTileEntity.onUnload();
@@ -1176,10 +1214,16 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
     @Override
     public ITexture[] getTexture(Block aBlock, ForgeDirection side) {
         final ITexture coverTexture = getCoverTexture(side);
-        final ITexture[] textureUncovered = hasValidMetaTileEntity()
-            ? mMetaTileEntity
-                .getTexture(this, side, mFacing, (byte) (mColor - 1), mActive, getOutputRedstoneSignal(side) > 0)
-            : Textures.BlockIcons.ERROR_RENDERING;
+        final ITexture[] textureUncovered;
+        if (!hasValidMetaTileEntity()) {
+            textureUncovered = Textures.BlockIcons.ERROR_RENDERING;
+        } else if (mDynamicOverlay && mMetaTileEntity instanceof IDynamicOverlay overlay) {
+            textureUncovered = overlay
+                .getStaticTexture(this, side, mFacing, (byte) (mColor - 1), getOutputRedstoneSignal(side) > 0);
+        } else {
+            textureUncovered = mMetaTileEntity
+                .getTexture(this, side, mFacing, (byte) (mColor - 1), mActive, getOutputRedstoneSignal(side) > 0);
+        }
         final ITexture[] textureCovered;
         if (coverTexture != null) {
             textureCovered = Arrays.copyOf(textureUncovered, textureUncovered.length + 1);
@@ -1190,6 +1234,23 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
         }
     }
 
+    /**
+     * @return The overlays the {@link DynamicOverlayRenderer} draws on the given side, or null if there are none
+     */
+    public ITexture[] getDynamicOverlayTexture(ForgeDirection side) {
+        if (!mDynamicOverlay || !(mMetaTileEntity instanceof IDynamicOverlay overlay)) return null;
+        // covers are drawn over the machine textures, so they would end up below the overlays
+        if (getCoverTexture(side) != null) return null;
+        return overlay.getOverlayTexture(this, side, mFacing, (byte) (mColor - 1), mActive);
+    }
+
+    private void removeDynamicOverlay() {
+        if (mDynamicOverlay) {
+            mDynamicOverlay = false;
+            DynamicOverlayRenderer.INSTANCE.remove(this);
+        }
+    }
+
     private boolean isEnergyInputSide(ForgeDirection side) {
         if (side != ForgeDirection.UNKNOWN) {
             if (!getCoverAtSide(side).letsEnergyIn()) return false;
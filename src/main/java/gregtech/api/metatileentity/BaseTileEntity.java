@@ -62,6 +62,7 @@ import gregtech.api.net.GTPacketSetConfigurationCircuit;
 import gregtech.api.util.GTTooltipDataCache;
 import gregtech.api.util.GTUtility;
 import gregtech.common.data.GTBlockEventTracker;
+import gregtech.common.data.GTTileDeltaTracker;
 import gregtech.common.gui.modularui.base.ItemSelectBaseGui;
 import ic2.api.energy.event.EnergyTileLoadEvent;
 import ic2.api.energy.event.EnergyTileUnloadEvent;
@@ -538,6 +539,18 @@ public abstract class BaseTileEntity extends TileEntity implements IHasWorldObje
         GTBlockEventTracker.enqueue(worldObj, xCoord, yCoord, zCoord, aID, aValue);
     }
 
+    /**
+     * Sends the client data fields flagged in {@code changedMask} to the players watching this chunk, batched with all
+     * other changes in the chunk during this tick.
+     *
+     * @see gregtech.api.net.GTPacketTileEntityDelta
+     */
+    protected final void sendClientDelta(int changedMask, byte aCommonData, byte aCustomData, byte aColor,
+        byte aRedstone) {
+        GTTileDeltaTracker
+            .enqueue(worldObj, xCoord, yCoord, zCoord, changedMask, aCommonData, aCustomData, aColor, aRedstone);
+    }
+
     protected boolean crossedChunkBorder(int x, int z) {
         return x >> 4 != xCoord >> 4 || z >> 4 != zCoord >> 4;
     }
@@ -181,10 +181,10 @@ public abstract class CoverableTileEntity extends BaseTileEntity implements ICov
     private boolean tickCoverAtSide(ForgeDirection side) {
         final Cover cover = getCoverAtSide(side);
         if (!cover.isValid()) return true;
-        final int aTickTimer = MinecraftServer.getServer()
-            .getTickCounter();
-        final int tCoverTickRate = cover.getTickRate();
-        if (tCoverTickRate > 0 && aTickTimer % tCoverTickRate == 0) {
+        final long aTickTimer = cover.getCoverTimer(
+            MinecraftServer.getServer()
+                .getTickCounter());
+        if (cover.isCoverTick(aTickTimer)) {
             final byte tRedstone = cover.isRedstoneSensitive(aTickTimer) ? getInputRedstoneSignal(side) : 0;
             cover.doCoverThings(tRedstone, aTickTimer);
             return isStillValid();
@@ -485,6 +485,15 @@ public abstract class MetaPipeEntity extends CommonMetaTileEntity implements ICo
         return Textures.BlockIcons.ERROR_RENDERING;
     }
 
+    /**
+     * Return true if the pipe variant of getTexture only depends on its arguments, {@link #getThickness()} and the
+     * meta ID of this pipe. The returned textures are then shared by all pipes of this type, instead of being
+     * created again for every pipe on every chunk rebuild.
+     */
+    public boolean hasSharedTextures() {
+        return false;
+    }
+
     @Override
     // making this method final allows it to be inlined by the JIT compiler
     public final IGregTechTileEntity getBaseMetaTileEntity() {
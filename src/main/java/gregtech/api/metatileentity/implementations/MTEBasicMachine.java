@@ -25,6 +25,7 @@ import static net.minecraftforge.common.util.ForgeDirection.UP;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import javax.annotation.Nonnull;
 
@@ -48,6 +49,7 @@ import com.cleanroommc.modularui.factory.PosGuiData;
 import com.cleanroommc.modularui.screen.ModularPanel;
 import com.cleanroommc.modularui.screen.UISettings;
 import com.cleanroommc.modularui.value.sync.PanelSyncManager;
+import com.google.common.collect.MapMaker;
 import com.gtnewhorizons.modularui.api.drawable.IDrawable;
 import com.gtnewhorizons.modularui.api.math.Pos2d;
 import com.gtnewhorizons.modularui.api.math.Size;
@@ -75,11 +77,13 @@ import gregtech.api.gui.modularui.SteamTexture;
 import gregtech.api.interfaces.ICleanroom;
 import gregtech.api.interfaces.IConfigurationCircuitSupport;
 import gregtech.api.interfaces.ITexture;
+import gregtech.api.interfaces.metatileentity.IDynamicOverlay;
 import gregtech.api.interfaces.modularui.IAddGregtechLogo;
 import gregtech.api.interfaces.modularui.IAddUIWidgets;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.interfaces.tileentity.IOverclockDescriptionProvider;
 import gregtech.api.interfaces.tileentity.RecipeMapWorkable;
+import gregtech.api.metrics.GTMetrics;
 import gregtech.api.objects.overclockdescriber.EUOverclockDescriber;
 import gregtech.api.objects.overclockdescriber.OverclockDescriber;
 import gregtech.api.recipe.BasicUIProperties;
@@ -109,7 +113,7 @@ import mcp.mobius.waila.api.IWailaDataAccessor;
  * Machine
  */
 public abstract class MTEBasicMachine extends MTEBasicTank implements RecipeMapWorkable, IConfigurationCircuitSupport,
-    IOverclockDescriptionProvider, IAddGregtechLogo, IAddUIWidgets {
+    IOverclockDescriptionProvider, IAddGregtechLogo, IAddUIWidgets, IDynamicOverlay {
 
     /**
      * return values for checkRecipe()
@@ -139,6 +143,9 @@ public abstract class MTEBasicMachine extends MTEBasicTank implements RecipeMapW
      */
     protected GTRecipe mLastRecipe = null;
 
+    private static final Map<ITexture[][][], SplitTextures> SPLIT_TEXTURES = new MapMaker().weakKeys()
+        .makeMap();
+
     private FluidStack mFluidOut;
     protected final FluidStackTank fluidOutputTank = new FluidStackTank(
         () -> mFluidOut,
@@ -270,37 +277,102 @@ public abstract class MTEBasicMachine extends MTEBasicTank implements RecipeMapW
     @Override
     public ITexture[] getTexture(IGregTechTileEntity baseMetaTileEntity, ForgeDirection sideDirection,
         ForgeDirection facingDirection, int colorIndex, boolean active, boolean redstoneLevel) {
-        final int textureIndex;
+        return mTextures[getTextureIndex(sideDirection, facingDirection, active)][colorIndex + 1];
+    }
+
+    private int getTextureIndex(ForgeDirection sideDirection, ForgeDirection facingDirection, boolean active) {
         if ((mMainFacing.flag & (UP.flag | DOWN.flag)) != 0) { // UP or DOWN
             if (sideDirection == facingDirection) {
-                textureIndex = active ? 2 : 3;
-            } else {
-                textureIndex = switch (sideDirection) {
-                    case DOWN -> active ? 6 : 7;
-                    case UP -> active ? 4 : 5;
-                    default -> active ? 0 : 1;
-                };
+                return active ? 2 : 3;
             }
-        } else {
-            if (sideDirection == mMainFacing) {
-                textureIndex = active ? 2 : 3;
-            } else {
-                if (showPipeFacing() && sideDirection == facingDirection) {
-                    textureIndex = switch (sideDirection) {
-                        case DOWN -> active ? 8 : 9;
-                        case UP -> active ? 10 : 11;
-                        default -> active ? 12 : 13;
-                    };
-                } else {
-                    textureIndex = switch (sideDirection) {
-                        case DOWN -> active ? 6 : 7;
-                        case UP -> active ? 4 : 5;
-                        default -> active ? 0 : 1;
-                    };
+            return switch (sideDirection) {
+                case DOWN -> active ? 6 : 7;
+                case UP -> active ? 4 : 5;
+                default -> active ? 0 : 1;
+            };
+        }
+        if (sideDirection == mMainFacing) {
+            return active ? 2 : 3;
+        }
+        if (showPipeFacing() && sideDirection == facingDirection) {
+            return switch (sideDirection) {
+                case DOWN -> active ? 8 : 9;
+                case UP -> active ? 10 : 11;
+                default -> active ? 12 : 13;
+            };
+        }
+        return switch (sideDirection) {
+            case DOWN -> active ? 6 : 7;
+            case UP -> active ? 4 : 5;
+            default -> active ? 0 : 1;
+        };
+    }
+
+    @Override
+    public boolean hasDynamicOverlay() {
+        return getSplitTextures() != SplitTextures.NONE;
+    }
+
+    @Override
+    public ITexture[] getStaticTexture(IGregTechTileEntity baseMetaTileEntity, ForgeDirection side,
+        ForgeDirection facing, int colorIndex, boolean redstoneLevel) {
+        return getSplitTextures().statics[getTextureIndex(side, facing, false)][colorIndex + 1];
+    }
+
+    @Override
+    public ITexture[] getOverlayTexture(IGregTechTileEntity baseMetaTileEntity, ForgeDirection side,
+        ForgeDirection facing, int colorIndex, boolean active) {
+        return getSplitTextures().overlays[getTextureIndex(side, facing, active)][colorIndex + 1];
+    }
+
+    private SplitTextures getSplitTextures() {
+        // mTextures is shared by all machines of the same ID
+        return SPLIT_TEXTURES.computeIfAbsent(mTextures, SplitTextures::split);
+    }
+
+    /**
+     * {@link #mTextures} split into the casing and the overlays on top of it, so that the overlays can be drawn
+     * separately. Only possible if the active and inactive textures of each side share the same casing.
+     */
+    private static final class SplitTextures {
+
+        private static final SplitTextures NONE = new SplitTextures(null, null);
+
+        private final ITexture[][][] statics, overlays;
+
+        private SplitTextures(ITexture[][][] statics, ITexture[][][] overlays) {
+            this.statics = statics;
+            this.overlays = overlays;
+        }
+
+        private static SplitTextures split(ITexture[][][] textures) {
+            if (textures.length % 2 != 0) return NONE;
+
+            final ITexture[][][] statics = new ITexture[textures.length][][];
+            final ITexture[][][] overlays = new ITexture[textures.length][][];
+
+            for (int i = 0; i < textures.length; i++) {
+                // active and inactive textures alternate
+                final ITexture[][] colored = textures[i], counterparts = textures[i ^ 1];
+                if (colored == null || counterparts == null || colored.length != counterparts.length) return NONE;
+
+                statics[i] = new ITexture[colored.length][];
+                overlays[i] = new ITexture[colored.length][];
+
+                for (int c = 0; c < colored.length; c++) {
+                    final ITexture[] texture = colored[c], counterpart = counterparts[c];
+                    if (texture == null || texture.length == 0
+                        || counterpart == null
+                        || counterpart.length == 0
+                        || texture[0] != counterpart[0]) return NONE;
+
+                    statics[i][c] = new ITexture[] { texture[0] };
+                    overlays[i][c] = Arrays.copyOfRange(texture, 1, texture.length);
                 }
             }
+
+            return new SplitTextures(statics, overlays);
         }
-        return mTextures[textureIndex][colorIndex + 1];
     }
 
     @Override
@@ -631,7 +703,9 @@ public abstract class MTEBasicMachine extends MTEBasicTank implements RecipeMapW
                         || aTick % 600 == 0
                         || aBaseMetaTileEntity.hasWorkJustBeenEnabled())
                     && hasEnoughEnergyToCheckRecipe()) {
+                    GTMetrics.RECIPE_CHECKS.increment();
                     if (checkRecipe() == FOUND_AND_SUCCESSFULLY_USED_RECIPE) {
+                        GTMetrics.RECIPE_CHECKS_SUCCESSFUL.increment();
                         if (getSpecialSlot() != null && getSpecialSlot().stackSize <= 0)
                             mInventory[getSpecialSlotIndex()] = null;
                         for (int i = getInputSlot(), j = i + mInputSlotCount; i < j; i++)
@@ -108,6 +108,11 @@ public class MTECable extends MetaPipeEntity implements IMetaTileEntityCable {
             mCanShock);
     }
 
+    @Override
+    public boolean hasSharedTextures() {
+        return true;
+    }
+
     @Override
     public ITexture[] getTexture(IGregTechTileEntity baseMetaTileEntity, ForgeDirection sideDirection,
         int facingDirection, int colorIndex, boolean active, boolean redstoneLevel) {
@@ -58,6 +58,7 @@ import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.items.MetaGeneratedTool;
 import gregtech.api.metatileentity.BaseMetaPipeEntity;
 import gregtech.api.metatileentity.MetaPipeEntity;
+import gregtech.api.metrics.GTMetrics;
 import gregtech.api.render.TextureFactory;
 import gregtech.api.util.GTLog;
 import gregtech.api.util.GTUtility;
@@ -448,7 +449,10 @@ public class MTEFluidPipe extends MetaPipeEntity {
             final int tFilledAmount = tEntry.left
                 .fill(tEntry.middle, drainFromIndex(tEntry.right, false, index), false);
 
-            if (tFilledAmount > 0) tEntry.left.fill(tEntry.middle, drainFromIndex(tFilledAmount, true, index), true);
+            if (tFilledAmount > 0) {
+                GTMetrics.FLUID_PIPE_TRANSFERS
+                    .add(tEntry.left.fill(tEntry.middle, drainFromIndex(tFilledAmount, true, index), true));
+            }
 
             if (mFluids[index] == null || mFluids[index].amount <= 0) return;
         }
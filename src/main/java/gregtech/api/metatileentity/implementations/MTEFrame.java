@@ -55,6 +55,11 @@ public class MTEFrame extends MetaPipeEntity implements ITemporaryTE {
         return new MTEFrame(mName, mMaterial);
     }
 
+    @Override
+    public boolean hasSharedTextures() {
+        return true;
+    }
+
     @Override
     public ITexture[] getTexture(IGregTechTileEntity baseMetaTileEntity, ForgeDirection sideDirection, int connections,
         int colorIndex, boolean active, boolean redstoneLevel) {
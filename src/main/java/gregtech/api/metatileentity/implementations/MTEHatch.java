@@ -24,6 +24,7 @@ public abstract class MTEHatch extends MTEBasicTank implements ICraftingIconProv
     private int textureIndex = 0;
 
     private ItemStack ae2CraftingIcon;
+    private int contentsVersion = 0;
 
     public MTEHatch(int aID, String aName, String aNameRegional, int aTier, int aInvSlotCount, String aDescription,
         ITexture... aTextures) {
@@ -91,6 +92,33 @@ public abstract class MTEHatch extends MTEBasicTank implements ICraftingIconProv
         }
     }
 
+    @Override
+    public void onPostTick(IGregTechTileEntity aBaseMetaTileEntity, long aTick) {
+        super.onPostTick(aBaseMetaTileEntity, aTick);
+        if (aBaseMetaTileEntity.isServerSide() && aBaseMetaTileEntity.hasInventoryBeenModified()) {
+            markContentsChanged();
+        }
+    }
+
+    /**
+     * Incremented every time the contents of this hatch change. Controllers can compare this against a value they
+     * remembered earlier to find out whether this hatch needs to be looked at again, without scanning its contents.
+     *
+     * @return Current contents version, only meaningful on the server side
+     */
+    public int getContentsVersion() {
+        return contentsVersion;
+    }
+
+    /**
+     * Signals that the contents of this hatch changed in a way that may allow a recipe to run. Called automatically
+     * whenever the inventory of this hatch is modified; hatches that get their contents from elsewhere (e.g. ME
+     * networks) should call this themselves.
+     */
+    public void markContentsChanged() {
+        contentsVersion++;
+    }
+
     @Override
     public void saveNBTData(NBTTagCompound aNBT) {
         super.saveNBTData(aNBT);
@@ -162,6 +162,7 @@ public class MTEHatchInputBus extends MTEHatch implements IConfigurationCircuitS
         if (aBaseMetaTileEntity.isServerSide()) {
             updateSlots();
         }
+        super.onPostTick(aBaseMetaTileEntity, aTimer);
     }
 
     public void updateSlots() {
@@ -28,6 +28,7 @@ import gregtech.api.interfaces.metatileentity.IMetaTileEntityItemPipe;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.metatileentity.BaseMetaPipeEntity;
 import gregtech.api.metatileentity.MetaPipeEntity;
+import gregtech.api.metrics.GTMetrics;
 import gregtech.api.render.TextureFactory;
 import gregtech.api.util.GTItemTransfer;
 import gregtech.api.util.GTUtility;
@@ -91,6 +92,11 @@ public class MTEItemPipe extends MetaPipeEntity implements IMetaTileEntityItemPi
         return new MTEItemPipe(mName, mThickNess, mMaterial, mInventory.length, mStepSize, mIsRestrictive, mTickTime);
     }
 
+    @Override
+    public boolean hasSharedTextures() {
+        return true;
+    }
+
     @Override
     public ITexture[] getTexture(IGregTechTileEntity aBaseMetaTileEntity, ForgeDirection side, int aConnections,
         int aColorIndex, boolean aConnected, boolean redstoneLevel) {
@@ -219,9 +225,11 @@ public class MTEItemPipe extends MetaPipeEntity implements IMetaTileEntityItemPi
                         .keySet()) {
                         if (temp) break;
                         tPipeList.add(tTileEntity);
-                        while (!temp && !isInventoryEmpty() && tTileEntity.sendItemStack(aBaseMetaTileEntity))
+                        while (!temp && !isInventoryEmpty() && tTileEntity.sendItemStack(aBaseMetaTileEntity)) {
+                            GTMetrics.ITEM_PIPE_TRANSFERS.increment();
                             for (IMetaTileEntityItemPipe tPipe : tPipeList)
                                 if (!tPipe.incrementTransferCounter(1)) temp = true;
+                        }
                     }
                 }
             }
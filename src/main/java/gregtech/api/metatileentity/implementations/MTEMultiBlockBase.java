@@ -62,6 +62,7 @@ import com.cleanroommc.modularui.screen.UISettings;
 import com.cleanroommc.modularui.value.sync.PanelSyncManager;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
+import com.gtnewhorizon.gtnhlib.util.CoordinatePacker;
 import com.gtnewhorizon.structurelib.structure.IStructureElement;
 import com.gtnewhorizons.modularui.api.NumberFormatMUI;
 import com.gtnewhorizons.modularui.api.drawable.FluidDrawable;
@@ -108,10 +109,12 @@ import gregtech.api.interfaces.modularui.IControllerWithOptionalFeatures;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.logic.ProcessingLogic;
 import gregtech.api.metatileentity.MetaTileEntity;
+import gregtech.api.metrics.GTMetrics;
 import gregtech.api.recipe.RecipeMap;
 import gregtech.api.recipe.check.CheckRecipeResult;
 import gregtech.api.recipe.check.CheckRecipeResultRegistry;
 import gregtech.api.recipe.check.SingleRecipeCheck;
+import gregtech.api.task.TickBudget;
 import gregtech.api.util.ExoticEnergyInputHelper;
 import gregtech.api.util.GTClientPreference;
 import gregtech.api.util.GTLog;
@@ -128,6 +131,7 @@ import gregtech.api.util.shutdown.ShutDownReasonRegistry;
 import gregtech.client.GTSoundLoop;
 import gregtech.common.config.MachineStats;
 import gregtech.common.data.GTCoilTracker;
+import gregtech.common.data.GTStructureIndex;
 import gregtech.common.gui.modularui.multiblock.base.MTEMultiBlockBaseGui;
 import gregtech.common.gui.modularui.widget.CheckRecipeResultSyncer;
 import gregtech.common.gui.modularui.widget.ShutDownReasonSyncer;
@@ -146,10 +150,13 @@ import gregtech.common.tileentities.machines.MTEHatchOutputBusME;
 import gregtech.common.tileentities.machines.MTEHatchOutputME;
 import gregtech.common.tileentities.machines.multi.MTELargeTurbine;
 import gregtech.common.tileentities.machines.multi.drone.MTEHatchDroneDownLink;
+import gregtech.crossmod.ae2.MEExtractionBatch;
 import gtPlusPlus.xmod.gregtech.api.metatileentity.implementations.MTEHatchSteamBusInput;
 import gtPlusPlus.xmod.gregtech.api.metatileentity.implementations.MTEHatchSteamBusOutput;
 import gtPlusPlus.xmod.gregtech.api.metatileentity.implementations.base.MTESteamMultiBase;
 import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2ReferenceOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Reference2ReferenceOpenHashMap;
 import mcp.mobius.waila.api.IWailaConfigHandler;
@@ -222,8 +229,40 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity implements IContr
 
     protected long mLastWorkingTick = 0, mTotalRunTime = 0;
     private static final int CHECK_INTERVAL = 100; // How often should we check for a new recipe on an idle machine?
+    private static final int DORMANT_POLL_INTERVAL = 20; // How often should a dormant machine look at its inputs?
     private final int randomTickOffset = (int) (Math.random() * CHECK_INTERVAL + 1);
 
+    /** How long a structure check is put off while the server is behind its tick budget */
+    private static final int STRUCTURE_CHECK_DEFER_TICKS = 20;
+    /** Most times in a row a structure check is put off, so that broken structures are still noticed eventually */
+    private static final int MAX_STRUCTURE_CHECK_DEFERRALS = 5;
+    private int structureCheckDeferrals = 0;
+    /**
+     * Most ticks in a row a due recipe check is put off. Deferred checks are retried every tick, since the tick they
+     * were due on only comes around again after a whole interval.
+     */
+    private static final int MAX_RECIPE_CHECK_DEFERRALS = 20;
+    private int recipeCheckDeferrals = 0;
+
+    /** Number of recipe checks in a row that found no recipe */
+    private int idleRecipeChecks = 0;
+    private boolean dormant = false;
+    private int dormantBackoff = 0;
+    private long dormantNextCheck = 0;
+    private int dormantInputVersion = 0;
+    private boolean dormantInputVersionValid = false;
+
+    /** What the current recipe consumed from ME stocking hatches, extracted when the recipe processing ends */
+    private final MEExtractionBatch meExtractionBatch = new MEExtractionBatch();
+    private boolean meExtractionBatchOpen = false;
+
+    /** Most positions of machine block updates remembered between two structure checks */
+    private static final int MAX_STRUCTURE_UPDATES = 64;
+    /** Packed positions of the machine block updates since the last structure check */
+    private final LongSet structureUpdates = new LongOpenHashSet();
+    /** Whether there was a machine block update since the last structure check whose position is not known */
+    private boolean structureUpdatesUnknown = true;
+
     /** A list of unparameterized structure errors. */
     private EnumSet<StructureError> structureErrors = EnumSet.noneOf(StructureError.class);
 
@@ -263,6 +302,7 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity implements IContr
     @Override
     public void onScrewdriverRightClick(ForgeDirection side, EntityPlayer aPlayer, float aX, float aY, float aZ,
         ItemStack aTool) {
+        wakeUp();
         if (supportsSingleRecipeLocking()) {
             mLockedToSingleRecipe = !mLockedToSingleRecipe;
             if (mLockedToSingleRecipe) {
@@ -462,6 +502,7 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity implements IContr
             }
             return true;
         }
+        wakeUp();
         openGui(aPlayer);
         return true;
     }
@@ -483,6 +524,105 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity implements IContr
         mUpdated = true;
     }
 
+    /**
+     * Remembers the position of a machine block update, which is about to be delivered through
+     * {@link #onMachineBlockUpdate()}.
+     */
+    public void onStructureBlockUpdate(int x, int y, int z) {
+        synchronized (structureUpdates) {
+            if (structureUpdates.size() < MAX_STRUCTURE_UPDATES) structureUpdates.add(CoordinatePacker.pack(x, y, z));
+            else structureUpdatesUnknown = true;
+        }
+    }
+
+    /**
+     * Marks that a machine block update is about to be delivered through {@link #onMachineBlockUpdate()} without its
+     * position being known, so that the next structure check can't be skipped.
+     */
+    public void onUnknownStructureBlockUpdate() {
+        synchronized (structureUpdates) {
+            structureUpdatesUnknown = true;
+        }
+    }
+
+    /**
+     * Forgets the machine block updates since the last structure check if they didn't change anything.
+     *
+     * @return Whether the structure is formed and all those updates only touched blocks of it that are still exactly
+     *         as they were in the last structure check, so that running it again can't change anything.
+     */
+    private boolean pollStructureUnchanged() {
+        synchronized (structureUpdates) {
+            final boolean unchanged = mMachine && !structureUpdatesUnknown
+                && !structureUpdates.isEmpty()
+                && GTStructureIndex.isUnchanged(this, structureUpdates);
+            if (unchanged) structureUpdates.clear();
+            return unchanged;
+        }
+    }
+
+    /**
+     * Remembers the blocks the structure check just saw at the positions of the machine block updates since the last
+     * one, and forgets those updates.
+     */
+    private void updateStructureIndex() {
+        synchronized (structureUpdates) {
+            GTStructureIndex.update(this, structureUpdatesUnknown ? null : structureUpdates);
+            structureUpdates.clear();
+            structureUpdatesUnknown = false;
+        }
+    }
+
+    /**
+     * @return Whether this machine has stopped polling for recipes because its last checks found nothing to do.
+     */
+    public boolean isDormant() {
+        return dormant;
+    }
+
+    /**
+     * Leaves the dormant state, so that the machine goes back to regular recipe polling. Call this when something
+     * happened that may allow a recipe to run and is not already detected through the input hatches.
+     */
+    public void wakeUp() {
+        dormant = false;
+        idleRecipeChecks = 0;
+    }
+
+    /**
+     * Updates the dormancy state after a recipe check. Machines go dormant after a number of checks in a row that did
+     * not find any recipe, and then wait increasingly longer for the next check unless their inputs change.
+     */
+    private void updateDormancy() {
+        final int threshold = MachineStats.machines.idleChecksBeforeDormant;
+        if (threshold <= 0 || checkRecipeResult != CheckRecipeResultRegistry.NO_RECIPE) {
+            wakeUp();
+            return;
+        }
+        if (++idleRecipeChecks < threshold) return;
+        dormantBackoff = dormant
+            ? Math.min(dormantBackoff * 2, Math.max(CHECK_INTERVAL, MachineStats.machines.dormantMaxBackoffTicks))
+            : CHECK_INTERVAL;
+        dormant = true;
+        dormantNextCheck = mTotalRunTime + dormantBackoff;
+        // the inputs may still settle from this check, so only remember their state on the next poll
+        dormantInputVersionValid = false;
+    }
+
+    /**
+     * @return Whether the inputs of a dormant machine changed since it was last polled.
+     */
+    private boolean haveDormantInputsChanged() {
+        if ((mTotalRunTime + randomTickOffset) % DORMANT_POLL_INTERVAL != 0) return false;
+        int version = 0;
+        for (MTEHatchInput hatch : mInputHatches) version = version * 31 + hatch.getContentsVersion();
+        for (MTEHatchInputBus bus : mInputBusses) version = version * 31 + bus.getContentsVersion();
+        if (dormantInputVersionValid && version != dormantInputVersion) return true;
+        dormantInputVersion = version;
+        dormantInputVersionValid = true;
+        return false;
+    }
+
     /**
      * ClearHatches as a part of structure check. If your multiblock has any hatches that need clearing override this
      * method, call super, and clear your own hatches
@@ -513,11 +653,15 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity implements IContr
         if (!aBaseMetaTileEntity.isServerSide()) return mMachine;
         // Only trigger an update if forced (from onPostTick, generally), or if the structure has changed
         if ((mStructureChanged || aForceReset)) {
+            final long start = TickBudget.INSTANCE.start();
             clearHatches();
 
             mMachine = checkMachine(aBaseMetaTileEntity, mInventory[1]);
 
             doStructureValidation();
+
+            updateStructureIndex();
+            TickBudget.INSTANCE.finish(TickBudget.Category.STRUCTURE_CHECK, start);
         }
         mStructureChanged = false;
         return mMachine;
@@ -595,9 +739,20 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity implements IContr
                 // duct tape fix for too many updates on an overloaded server, causing the structure check to not run
                 if (mUpdate <= 0) mUpdate = 50;
                 mUpdated = false;
+                wakeUp();
             }
             if (--mUpdate == 0 || --mStartUpCheck == 0) {
-                checkStructure(true, aBaseMetaTileEntity);
+                if (mStartUpCheck < 0 && mMachine
+                    && structureCheckDeferrals < MAX_STRUCTURE_CHECK_DEFERRALS
+                    && !TickBudget.INSTANCE.tryRun(TickBudget.Category.STRUCTURE_CHECK)) {
+                    // a formed machine can keep running a little longer, but not forever on a server that stays behind
+                    structureCheckDeferrals++;
+                    mUpdate = STRUCTURE_CHECK_DEFER_TICKS;
+                } else {
+                    structureCheckDeferrals = 0;
+                    // big structures are expensive to walk, so don't if the updates since then didn't touch them
+                    if (mStartUpCheck >= 0 || !pollStructureUnchanged()) checkStructure(true, aBaseMetaTileEntity);
+                }
             }
 
             if (mStartUpCheck < 0) {
@@ -686,16 +841,20 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity implements IContr
      * @return If successfully found recipe and/or started processing
      */
     protected final boolean checkRecipe() {
+        final long start = TickBudget.INSTANCE.start();
         startRecipeProcessing();
         CheckRecipeResult result = checkProcessing();
+        GTMetrics.RECIPE_CHECKS.increment();
         if (!CheckRecipeResultRegistry.isRegistered(result.getID())) {
             throw new RuntimeException(String.format("Result %s is not registered for registry", result.getID()));
         }
         if (result.wasSuccessful()) {
+            GTMetrics.RECIPE_CHECKS_SUCCESSFUL.increment();
             sendStartMultiBlockSoundLoop();
         }
         this.checkRecipeResult = result;
         endRecipeProcessing();
+        TickBudget.INSTANCE.finish(TickBudget.Category.RECIPE_CHECK, start);
         // Don't use `result` here because `endRecipeProcessing()` might mutate `this.checkRecipeResult`
         return this.checkRecipeResult.wasSuccessful();
     }
@@ -707,12 +866,35 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity implements IContr
         for (IDualInputHatch craftingInputMe : mDualInputHatches) {
             shouldCheck |= craftingInputMe.justUpdated();
         }
-        if (shouldCheck) return true;
         // Do the same for Smart Input Hatches
-        for (ISmartInputHatch smartInputHatch : mSmartInputHatches) {
-            shouldCheck |= smartInputHatch.justUpdated();
+        if (!shouldCheck) {
+            for (ISmartInputHatch smartInputHatch : mSmartInputHatches) {
+                shouldCheck |= smartInputHatch.justUpdated();
+            }
+        }
+        // as well as any input change of a dormant machine, which may now have a recipe to run
+        if (shouldCheck || dormant && haveDormantInputsChanged()) {
+            wakeUp();
+            recipeCheckDeferrals = 0;
+            return true;
         }
-        if (shouldCheck) return true;
+
+        // nothing happened to the machine, so polling for a recipe can wait for a later tick while the server is behind
+        if (recipeCheckDeferrals == 0 && !isRecipeCheckDue()) return false;
+        if (recipeCheckDeferrals < MAX_RECIPE_CHECK_DEFERRALS
+            && !TickBudget.INSTANCE.tryRun(TickBudget.Category.RECIPE_CHECK)) {
+            recipeCheckDeferrals++;
+            return false;
+        }
+        recipeCheckDeferrals = 0;
+        return true;
+    }
+
+    /**
+     * @return Whether an idle machine should poll for a recipe on this tick.
+     */
+    private boolean isRecipeCheckDue() {
+        if (dormant) return mTotalRunTime >= dormantNextCheck;
 
         // Perform more frequent recipe change after the machine just shuts down.
         long timeElapsed = mTotalRunTime - mLastWorkingTick;
@@ -764,6 +946,7 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity implements IContr
                         mLastWorkingTick = mTotalRunTime;
                         if (aBaseMetaTileEntity.isAllowedToWork()) {
                             checkRecipe();
+                            updateDormancy();
                         }
                     }
                 }
@@ -772,11 +955,15 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity implements IContr
             // Check if the machine is enabled in the first place!
             if (aBaseMetaTileEntity.isAllowedToWork()) {
 
+                if (aBaseMetaTileEntity.hasWorkJustBeenEnabled() || aBaseMetaTileEntity.hasInventoryBeenModified()) {
+                    wakeUp();
+                }
                 if (shouldCheckRecipeThisTick(aTick) || aBaseMetaTileEntity.hasWorkJustBeenEnabled()
                     || aBaseMetaTileEntity.hasInventoryBeenModified()) {
                     if (checkRecipe()) {
                         markDirty();
                     }
+                    updateDormancy();
                 }
             }
             if (mMaxProgresstime <= 0) mEfficiency = Math.max(0, mEfficiency - 1000);
@@ -1638,6 +1825,20 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity implements IContr
         ejectionHelper.commit();
     }
 
+    /**
+     * Ejects several stacks as well as it can. Stacks of the same item are merged and all of them share one set of bus
+     * transactions, so prefer this over calling {@link #addOutputPartial(ItemStack)} in a loop.
+     *
+     * @param stacks The stacks to eject. Ejected items are subtracted from these stacks.
+     */
+    public void addOutputPartial(List<ItemStack> stacks) {
+        if (stacks == null || stacks.isEmpty()) return;
+
+        ItemEjectionHelper ejectionHelper = new ItemEjectionHelper(this);
+        ejectionHelper.ejectStacks(stacks);
+        ejectionHelper.commit();
+    }
+
     /**
      * Adds items to this multi's output busses. Voids anything that could not fit.
      *
@@ -1752,7 +1953,7 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity implements IContr
         }
 
         if (hatch instanceof MTEHatchInput tHatch && tHatch.isValid()) {
-            if (tHatch instanceof MTEHatchInputME meHatch) {
+            if (tHatch instanceof MTEHatchInputME meHatch && !meExtractionBatchOpen) {
                 meHatch.startRecipeProcessing();
                 FluidStack tFluid = meHatch.drain(ForgeDirection.UNKNOWN, fluid, doDrain);
                 meHatch.endRecipeProcessing(this);
@@ -1900,6 +2101,7 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity implements IContr
     }
 
     public void startRecipeProcessing() {
+        meExtractionBatchOpen = true;
         mDualInputHatches.removeIf(mte -> mte == null || !((MetaTileEntity) mte).isValid());
 
         for (MTEHatchInputBus hatch : validMTEList(mInputBusses)) {
@@ -1931,6 +2133,21 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity implements IContr
                 setResultIfFailure(aware.endRecipeProcessing(this));
             }
         }
+
+        meExtractionBatchOpen = false;
+        CheckRecipeResult extraction = meExtractionBatch.commit();
+        if (!extraction.wasSuccessful()) {
+            stopMachine(ShutDownReasonRegistry.CRITICAL_NONE);
+            setResultIfFailure(extraction);
+        }
+    }
+
+    /**
+     * @return The batch ME stocking hatches add what the current recipe consumed to, so that it is extracted, or rolled
+     *         back, for all of them at once. Null outside of recipe processing.
+     */
+    public @Nullable MEExtractionBatch getMEExtractionBatch() {
+        return meExtractionBatchOpen ? meExtractionBatch : null;
     }
 
     public boolean addToMachineList(IGregTechTileEntity aTileEntity, int aBaseCasingIndex) {
@@ -2481,6 +2698,7 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity implements IContr
         setMufflers(false);
 
         deactivateCoilLease();
+        GTStructureIndex.remove(this);
 
         IGregTechTileEntity igte = getBaseMetaTileEntity();
 
@@ -2494,6 +2712,7 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity implements IContr
         super.onUnload();
 
         deactivateCoilLease();
+        GTStructureIndex.remove(this);
     }
 
     private void deactivateCoilLease() {
@@ -2707,17 +2926,25 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity implements IContr
     @Override
     public boolean canDumpItemToME(List<GTUtility.ItemId> outputs) {
         List<MTEHatchOutputBusME> meBusses = GTUtility.getMTEsOfType(mOutputBusses, MTEHatchOutputBusME.class);
+        List<MTEHatchOutputBusME> filteredBusses = new ArrayList<>(meBusses.size());
+
+        // Checking the capacity is the expensive part, so do it once per bus instead of once per bus and output
+        for (MTEHatchOutputBusME busME : meBusses) {
+            // If the bus has reached its max capacity, it can't accept anything
+            if (!busME.canAcceptItem()) continue;
+
+            // An unfiltered bus can eject every stack fully
+            // We don't care about bus ordering here because we're just checking if it's possible
+            if (!busME.isFiltered()) return true;
+
+            filteredBusses.add(busME);
+        }
 
         for (GTUtility.ItemId output : outputs) {
             boolean handled = false;
 
-            for (MTEHatchOutputBusME busME : meBusses) {
-                // If the bus has reached its max capacity, it can't accept anything
-                if (!busME.canAcceptItem()) continue;
-
-                // If the bus is unfiltered or is filtered to this item, we can eject the stack fully
-                // We don't care about bus ordering here because we're just checking if it's possible
-                if (!busME.isFiltered() || busME.isFilteredToItem(output)) {
+            for (MTEHatchOutputBusME busME : filteredBusses) {
+                if (busME.isFilteredToItem(output)) {
                     handled = true;
                     break;
                 }
@@ -0,0 +1,209 @@
+package gregtech.api.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Server side counters and gauges describing the load GT puts on the server, written to a file every few seconds by
+ * {@link gregtech.common.misc.GTMetricsExporter}.
+ * <p>
+ * Counting is skipped unless exporting is enabled in the config, so the hot paths only pay for a field read.
+ */
+public final class GTMetrics {
+
+    /** Set from the config, see {@link gregtech.common.config.Gregtech.General#metricsExportInterval} */
+    public static boolean enabled = false;
+
+    private static final List<Metric> METRICS = new ArrayList<>();
+
+    public static final Counter RECIPE_CHECKS = counter("gt_recipe_checks_total", "Recipe checks done by machines");
+    public static final Counter RECIPE_CHECKS_SUCCESSFUL = counter(
+        "gt_recipe_checks_successful_total",
+        "Recipe checks that started a recipe");
+    public static final Counter RECIPE_LOOKUP_HITS = counter(
+        "gt_recipe_lookup_hits_total",
+        "Recipe map lookups that matched a recipe");
+    public static final Counter RECIPE_LOOKUP_MISSES = counter(
+        "gt_recipe_lookup_misses_total",
+        "Recipe map lookups that matched no recipe");
+    public static final Counter EU_EMITTED = counter("gt_eu_emitted_total", "EU emitted into energy networks");
+    public static final Counter ITEM_PIPE_TRANSFERS = counter(
+        "gt_item_pipe_transfers_total",
+        "Item stacks sent through item pipes");
+    public static final Counter FLUID_PIPE_TRANSFERS = counter(
+        "gt_fluid_pipe_transferred_liters_total",
+        "Liters of fluid moved by fluid pipes");
+    public static final Counter PACKETS_SENT = counter("gt_packets_sent_total", "GT packets sent");
+    public static final Counter PACKET_BYTES_SENT = counter("gt_packet_bytes_sent_total", "Bytes of GT packets sent");
+
+    private GTMetrics() {}
+
+    /**
+     * Registers a counter. Names should follow the Prometheus conventions, i.e. {@code gt_snake_case_total}.
+     */
+    public static Counter counter(String name, String help) {
+        return register(new Counter(name, help));
+    }
+
+    /**
+     * Registers a gauge reading its value when the metrics are exported. The supplier is called on the server thread.
+     */
+    public static Gauge gauge(String name, String help, LongSupplier value) {
+        return register(new Gauge(name, help, value));
+    }
+
+    private static <T extends Metric> T register(T metric) {
+        synchronized (METRICS) {
+            for (Metric existing : METRICS) {
+                if (existing.name.equals(metric.getName())) {
+                    throw new IllegalArgumentException("Duplicate metric name: " + metric.getName());
+                }
+            }
+            METRICS.add(metric);
+        }
+        return metric;
+    }
+
+    /**
+     * Reads the current value of every metric, in registration order.
+     */
+    public static List<Sample> sample() {
+        synchronized (METRICS) {
+            final List<Sample> samples = new ArrayList<>(METRICS.size());
+            for (Metric metric : METRICS) {
+                samples.add(new Sample(metric.name, metric.help, metric.type(), metric.get()));
+            }
+            return samples;
+        }
+    }
+
+    /**
+     * Formats the samples in the Prometheus text exposition format.
+     */
+    public static String toPrometheusText(List<Sample> samples) {
+        final StringBuilder sb = new StringBuilder();
+        for (Sample sample : samples) {
+            sb.append("# HELP ")
+                .append(sample.name)
+                .append(' ')
+                .append(
+                    sample.help.replace("\\", "\\\\")
+                        .replace("\n", "\\n"))
+                .append('\n');
+            sb.append("# TYPE ")
+                .append(sample.name)
+                .append(' ')
+                .append(sample.type)
+                .append('\n');
+            sb.append(sample.name)
+                .append(' ')
+                .append(sample.value)
+                .append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Formats the samples as a JSON object mapping each metric name to its value.
+     */
+    public static String toJson(List<Sample> samples, long timestamp) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("{\"timestamp\":")
+            .append(timestamp);
+        for (Sample sample : samples) {
+            // metric names are restricted to [a-zA-Z0-9_:], no escaping needed
+            sb.append(",\"")
+                .append(sample.name)
+                .append("\":")
+                .append(sample.value);
+        }
+        return sb.append("}\n")
+            .toString();
+    }
+
+    public abstract static class Metric {
+
+        private final String name;
+        private final String help;
+
+        private Metric(String name, String help) {
+            if (!name.matches("[a-zA-Z_:][a-zA-Z0-9_:]*")) {
+                throw new IllegalArgumentException("Invalid metric name: " + name);
+            }
+            this.name = name;
+            this.help = help;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public abstract long get();
+
+        abstract String type();
+    }
+
+    public static final class Counter extends Metric {
+
+        private final LongAdder value = new LongAdder();
+
+        private Counter(String name, String help) {
+            super(name, help);
+        }
+
+        public void increment() {
+            if (enabled) value.increment();
+        }
+
+        public void add(long amount) {
+            if (enabled) value.add(amount);
+        }
+
+        @Override
+        public long get() {
+            return value.sum();
+        }
+
+        @Override
+        String type() {
+            return "counter";
+        }
+    }
+
+    public static final class Gauge extends Metric {
+
+        private final LongSupplier value;
+
+        private Gauge(String name, String help, LongSupplier value) {
+            super(name, help);
+            this.value = value;
+        }
+
+        @Override
+        public long get() {
+            return value.getAsLong();
+        }
+
+        @Override
+        String type() {
+            return "gauge";
+        }
+    }
+
+    public static final class Sample {
+
+        public final String name;
+        public final String help;
+        public final String type;
+        public final long value;
+
+        public Sample(String name, String help, String type, long value) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package gregtech.api.net;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.minecraft.world.IBlockAccess;
+
+import com.google.common.io.ByteArrayDataInput;
+
+import cpw.mods.fml.common.network.ByteBufUtils;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Carries several already encoded packets for one player in a single custom payload. Each frame is a complete packet,
+ * starting with its packet ID. The frames are unpacked and handled one by one by {@link gregtech.common.GTNetwork}, so
+ * this packet is never processed itself.
+ */
+public class GTPacketBatch extends GTPacket {
+
+    private List<byte[]> frames;
+
+    public GTPacketBatch() {}
+
+    public GTPacketBatch(List<byte[]> frames) {
+        this.frames = frames;
+    }
+
+    public List<byte[]> getFrames() {
+        return frames;
+    }
+
+    /**
+     * @return The number of bytes {@link #encode(ByteBuf)} writes for the given frame.
+     */
+    public static int getEncodedSize(byte[] frame) {
+        return ByteBufUtils.varIntByteCount(frame.length) + frame.length;
+    }
+
+    @Override
+    public byte getPacketID() {
+        return GTPacketTypes.BATCH.id;
+    }
+
+    @Override
+    public void encode(ByteBuf buffer) {
+        ByteBufUtils.writeVarInt(buffer, frames.size(), 5);
+        for (byte[] frame : frames) {
+            ByteBufUtils.writeVarInt(buffer, frame.length, 5);
+            buffer.writeBytes(frame);
+        }
+    }
+
+    @Override
+    public GTPacket decode(ByteArrayDataInput buffer) {
+        final int count = readVarInt(buffer, 5);
+        final List<byte[]> frames = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final byte[] frame = new byte[readVarInt(buffer, 5)];
+            buffer.readFully(frame);
+            frames.add(frame);
+        }
+        return new GTPacketBatch(frames);
+    }
+
+    @Override
+    public void process(IBlockAccess world) {
+        // unpacked by the network handler before processing
+    }
+}
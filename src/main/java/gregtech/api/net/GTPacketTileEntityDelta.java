@@ -0,0 +1,89 @@
+package gregtech.api.net;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.World;
+
+import com.google.common.io.ByteArrayDataInput;
+
+import cpw.mods.fml.common.network.ByteBufUtils;
+import gregtech.api.metatileentity.GregTechTileClientEvents;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Carries the client data that changed this tick for any number of GT tile entities in one chunk. Each entry only
+ * contains the fields flagged in its bitmask, which are applied as the matching
+ * {@link GregTechTileClientEvents client events}.
+ */
+public class GTPacketTileEntityDelta extends GTPacket {
+
+    public static final int COMMON_DATA = 1 << GregTechTileClientEvents.CHANGE_COMMON_DATA;
+    public static final int CUSTOM_DATA = 1 << GregTechTileClientEvents.CHANGE_CUSTOM_DATA;
+    public static final int COLOR = 1 << GregTechTileClientEvents.CHANGE_COLOR;
+    public static final int REDSTONE_OUTPUT = 1 << GregTechTileClientEvents.CHANGE_REDSTONE_OUTPUT;
+
+    private int worldId;
+    private int chunkX, chunkZ;
+    private int entryCount;
+    /** Per entry: y, packed local x and z, field mask, then one byte per set bit of the mask in ascending order. */
+    private byte[] data;
+
+    public GTPacketTileEntityDelta() {}
+
+    public GTPacketTileEntityDelta(int worldId, int chunkX, int chunkZ, int entryCount, byte[] data) {
+        this.worldId = worldId;
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+        this.entryCount = entryCount;
+        this.data = data;
+    }
+
+    @Override
+    public byte getPacketID() {
+        return GTPacketTypes.TILE_ENTITY_DELTA.id;
+    }
+
+    @Override
+    public void encode(ByteBuf buffer) {
+        buffer.writeInt(worldId);
+        buffer.writeInt(chunkX);
+        buffer.writeInt(chunkZ);
+        ByteBufUtils.writeVarInt(buffer, entryCount, 5);
+        ByteBufUtils.writeVarInt(buffer, data.length, 5);
+        buffer.writeBytes(data);
+    }
+
+    @Override
+    public GTPacket decode(ByteArrayDataInput buffer) {
+        final GTPacketTileEntityDelta packet = new GTPacketTileEntityDelta();
+        packet.worldId = buffer.readInt();
+        packet.chunkX = buffer.readInt();
+        packet.chunkZ = buffer.readInt();
+        packet.entryCount = readVarInt(buffer, 5);
+        packet.data = new byte[readVarInt(buffer, 5)];
+        buffer.readFully(packet.data);
+        return packet;
+    }
+
+    @Override
+    public void process(IBlockAccess blockAccess) {
+        if (!(blockAccess instanceof World world)) return;
+        if (world.provider.dimensionId != worldId) return;
+
+        int index = 0;
+        for (int i = 0; i < entryCount; i++) {
+            final int y = data[index++] & 0xFF;
+            final int packedXZ = data[index++] & 0xFF;
+            final int mask = data[index++];
+            final TileEntity tileEntity = world
+                .getTileEntity((chunkX << 4) | (packedXZ >> 4), y, (chunkZ << 4) | (packedXZ & 15));
+
+            for (int eventId = GregTechTileClientEvents.CHANGE_COMMON_DATA;
+                eventId <= GregTechTileClientEvents.CHANGE_REDSTONE_OUTPUT; eventId++) {
+                if ((mask & (1 << eventId)) == 0) continue;
+                final byte value = data[index++];
+                if (tileEntity != null) tileEntity.receiveClientEvent(eventId, value);
+            }
+        }
+    }
+}
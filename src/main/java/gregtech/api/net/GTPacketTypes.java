@@ -51,6 +51,8 @@ public enum GTPacketTypes {
     BROADCAST_CAPES(40, new GTPacketBroadcastCapes()),
     LIST_CAPES(41, new GTPacketListCapes()),
     SET_CAPE(42, new GTPacketSetCape()),
+    BATCH(43, new GTPacketBatch()),
+    TILE_ENTITY_DELTA(44, new GTPacketTileEntityDelta()),
 
     // merge conflict prevention comment, keep a trailing comma above
     ;
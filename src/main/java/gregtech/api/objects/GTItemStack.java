@@ -2,7 +2,9 @@ package gregtech.api.objects;
 
 import static gregtech.api.util.GTRecipeBuilder.WILDCARD;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import net.minecraft.init.Items;
 import net.minecraft.item.Item;
@@ -12,6 +14,8 @@ import com.gtnewhorizon.gtnhlib.hash.Fnv1a32;
 
 import gregtech.api.util.GTUtility;
 import it.unimi.dsi.fastutil.Hash;
+import it.unimi.dsi.fastutil.shorts.Short2ObjectMap;
+import it.unimi.dsi.fastutil.shorts.Short2ObjectOpenHashMap;
 
 /**
  * An optimization of {@link ItemStack} to have a better {@code hashcode} and {@code equals} in order to improve
@@ -59,9 +63,16 @@ public class GTItemStack {
         }
     };
 
+    /** Shared lookup keys by item and damage, see {@link #intern(ItemStack, boolean)} */
+    private static final Map<Item, Short2ObjectMap<GTItemStack>> INTERNED = new ConcurrentHashMap<>();
+    /** Bumped when item IDs are remapped, as the hash codes are based on them */
+    private static int sIDGeneration = 0;
+
     public final Item mItem;
     public final byte mStackSize;
     public final short mMetaData;
+    /** The hash code in the lower half and the ID generation it was computed for, plus one, in the upper half */
+    private long mCachedHash = 0;
 
     public GTItemStack(Item aItem, long aStackSize, long aMetaData) {
         mItem = aItem;
@@ -84,6 +95,58 @@ public class GTItemStack {
         this(GTUtility.intToStack(aHashCode));
     }
 
+    /**
+     * Gets the shared key for the item and damage of a stack, creating it if needed. Only meant for building indexes,
+     * as every key created here is kept for good; look things up with {@link #lookup(ItemStack, boolean)} instead.
+     *
+     * @param wildcard whether to use wildcard damage value
+     * @return A key with stack size 1. Never mutate or hand it out.
+     */
+    public static GTItemStack intern(ItemStack aStack, boolean wildcard) {
+        final Item item = aStack == null ? null : aStack.getItem();
+        if (item == null) return new GTItemStack(aStack, wildcard);
+        final short meta = (short) (wildcard ? WILDCARD : Items.feather.getDamage(aStack));
+        final Short2ObjectMap<GTItemStack> byMeta = INTERNED
+            .computeIfAbsent(item, k -> new Short2ObjectOpenHashMap<>());
+        synchronized (byMeta) {
+            GTItemStack key = byMeta.get(meta);
+            if (key == null) {
+                key = new GTItemStack(item, 1, meta);
+                byMeta.put(meta, key);
+            }
+            return key;
+        }
+    }
+
+    /**
+     * Looks up the shared key for the item and damage of a stack, so that hot paths like recipe lookups don't allocate
+     * a key for every input that is in an index. Stacks nothing was indexed under, like every damage value of a tool,
+     * get a temporary key instead of growing the pool.
+     *
+     * @param wildcard whether to use wildcard damage value
+     * @return A key with stack size 1, only meant to look things up. Never mutate or hand it out.
+     */
+    public static GTItemStack lookup(ItemStack aStack, boolean wildcard) {
+        final Item item = aStack == null ? null : aStack.getItem();
+        if (item == null) return new GTItemStack(aStack, wildcard);
+        final short meta = (short) (wildcard ? WILDCARD : Items.feather.getDamage(aStack));
+        final Short2ObjectMap<GTItemStack> byMeta = INTERNED.get(item);
+        if (byMeta != null) {
+            synchronized (byMeta) {
+                final GTItemStack key = byMeta.get(meta);
+                if (key != null) return key;
+            }
+        }
+        return new GTItemStack(item, 1, meta);
+    }
+
+    /**
+     * Makes the cached hash codes be computed again, call before rehashing maps after item IDs changed.
+     */
+    public static void onItemIDsChanged() {
+        sIDGeneration++;
+    }
+
     public final ItemStack toStack() {
         if (mItem == null) return null;
         return new ItemStack(mItem, 1, mMetaData);
@@ -108,7 +171,13 @@ public class GTItemStack {
 
     @Override
     public int hashCode() {
-        return GTUtility.stackToInt(toStack());
+        // kept in a single field, so that other threads never see a hash code with the wrong generation
+        final long cached = mCachedHash;
+        final int generation = sIDGeneration + 1;
+        if ((int) (cached >>> 32) == generation) return (int) cached;
+        final int hash = mItem == null ? 0 : GTUtility.itemToInt(mItem, mMetaData);
+        mCachedHash = (long) generation << 32 | (hash & 0xFFFFFFFFL);
+        return hash;
     }
 
     /**
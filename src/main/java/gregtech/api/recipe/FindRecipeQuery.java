@@ -10,6 +10,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraftforge.fluids.FluidStack;
 
 import gregtech.api.enums.GTValues;
+import gregtech.api.metrics.GTMetrics;
 import gregtech.api.util.GTRecipe;
 import gregtech.api.util.MethodsReturnNonnullByDefault;
 
@@ -64,8 +65,10 @@ public final class FindRecipeQuery {
      */
     @Nullable
     public GTRecipe find() {
-        return findAll().findFirst()
+        final GTRecipe recipe = findAll().findFirst()
             .orElse(null);
+        (recipe != null ? GTMetrics.RECIPE_LOOKUP_HITS : GTMetrics.RECIPE_LOOKUP_MISSES).increment();
+        return recipe;
     }
 
     /**
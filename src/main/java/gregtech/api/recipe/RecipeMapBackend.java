@@ -11,8 +11,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -155,14 +157,14 @@ public class RecipeMapBackend {
     protected GTRecipe addToItemMap(GTRecipe recipe) {
         for (ItemStack item : recipe.mInputs) {
             if (item == null) continue;
-            itemIndex.put(new GTItemStack(item), recipe);
+            itemIndex.put(GTItemStack.intern(item, false), recipe);
         }
         if (recipe instanceof GTRecipe.GTRecipe_WithAlt recipeWithAlt) {
             for (ItemStack[] itemStacks : recipeWithAlt.mOreDictAlt) {
                 if (itemStacks == null) continue;
                 for (ItemStack item : itemStacks) {
                     if (item == null) continue;
-                    itemIndex.put(new GTItemStack(item), recipe);
+                    itemIndex.put(GTItemStack.intern(item, false), recipe);
                 }
             }
         }
@@ -271,19 +273,60 @@ public class RecipeMapBackend {
      * Re-unificates all the items present in recipes. Also reflects recipe removals.
      */
     public void reInit() {
-        itemIndex.clear();
-        for (GTRecipe recipe : allRecipes()) {
+        final Collection<GTRecipe> recipes = allRecipes();
+        // Loaders call this after every batch of removals, which already updated the index. Only rebuild it if
+        // unification changed an input, or if it holds entries of recipes that are gone.
+        final Set<GTItemStack> keys = new HashSet<>();
+        boolean upToDate = true;
+        int indexSize = 0;
+        for (GTRecipe recipe : recipes) {
             GTOreDictUnificator.setStackArray(true, true, recipe.mInputs);
             GTOreDictUnificator.setStackArray(true, true, recipe.mOutputs);
+            if (upToDate) {
+                keys.clear();
+                collectItemKeys(recipe, keys);
+                indexSize += keys.size();
+                for (GTItemStack key : keys) {
+                    if (!itemIndex.containsEntry(key, recipe)) {
+                        upToDate = false;
+                        break;
+                    }
+                }
+            }
+        }
+        if (upToDate && indexSize == itemIndex.size()) return;
+
+        itemIndex.clear();
+        for (GTRecipe recipe : recipes) {
             addToItemMap(recipe);
         }
     }
 
+    /**
+     * Collects the keys {@link #addToItemMap} indexes the supplied recipe under.
+     */
+    private static void collectItemKeys(GTRecipe recipe, Set<GTItemStack> keys) {
+        for (ItemStack item : recipe.mInputs) {
+            if (item == null) continue;
+            keys.add(GTItemStack.lookup(item, false));
+        }
+        if (recipe instanceof GTRecipe.GTRecipe_WithAlt recipeWithAlt) {
+            for (ItemStack[] itemStacks : recipeWithAlt.mOreDictAlt) {
+                if (itemStacks == null) continue;
+                for (ItemStack item : itemStacks) {
+                    if (item == null) continue;
+                    keys.add(GTItemStack.lookup(item, false));
+                }
+            }
+        }
+    }
+
     /**
      * @return If supplied item is a valid input for any of the recipes
      */
     public boolean containsInput(ItemStack item) {
-        return itemIndex.containsKey(new GTItemStack(item)) || itemIndex.containsKey(new GTItemStack(item, true));
+        return itemIndex.containsKey(GTItemStack.lookup(item, false))
+            || itemIndex.containsKey(GTItemStack.lookup(item, true));
     }
 
     /**
@@ -411,7 +454,7 @@ public class RecipeMapBackend {
             // inputs.
             GTStreamUtil.ofConditional(!itemIndex.isEmpty(), items)
                 .filter(Objects::nonNull)
-                .flatMap(item -> Stream.of(new GTItemStack(item), new GTItemStack(item, true)))
+                .flatMap(item -> Stream.of(GTItemStack.lookup(item, false), GTItemStack.lookup(item, true)))
                 .map(itemIndex::get)
                 .flatMap(Collection::stream)
                 .filter(recipe -> filterFindRecipe(recipe, items, fluids, specialSlot, dontCheckStackSizes))
@@ -54,4 +54,24 @@ public final class SBRContextHolder {
         @NotNull RenderBlocks renderer) {
         return worldContext.setup(x, y, z, block, modelId, renderer);
     }
+
+    /**
+     * Returns this holder's {@link SBRWorldContext} instance configured to
+     * render a single {@link Block} in world for the given world render pass,
+     * rather than the pass currently being rebuilt.
+     *
+     * @param x               world X coordinate
+     * @param y               world Y coordinate
+     * @param z               world Z coordinate
+     * @param block           the block to render
+     * @param modelId         the Model ID for the block
+     * @param renderer        the {@link RenderBlocks} renderer to use
+     * @param worldRenderPass the world render pass to render
+     * @return the configured {@link SBRWorldContext} instance unique to this holder
+     */
+    @SuppressWarnings("MethodWithTooManyParameters")
+    public ISBRWorldContext getSBRWorldContext(int x, int y, int z, @NotNull Block block, int modelId,
+        @NotNull RenderBlocks renderer, int worldRenderPass) {
+        return worldContext.setup(x, y, z, block, modelId, renderer, worldRenderPass);
+    }
 }
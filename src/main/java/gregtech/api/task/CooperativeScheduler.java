@@ -32,7 +32,7 @@ public final class CooperativeScheduler {
     private final LinkedHashMap<String, CoopFuture<?>> tasks = new LinkedHashMap<>();
     private final List<CoopFuture<?>> newTasks = new ArrayList<>();
 
-    private long start, end;
+    private long start, end, duration;
 
     private CooperativeScheduler() {
         FMLCommonHandler.instance()
@@ -48,6 +48,9 @@ public final class CooperativeScheduler {
 
         start = System.nanoTime();
         end = 0;
+        duration = Gregtech.general.schedulerDuration;
+        // the tasks are background work anyway, so let them take longer rather than slow down a struggling server
+        if (!TickBudget.INSTANCE.tryRun(TickBudget.Category.SCHEDULED_TASK)) duration /= 4;
 
         // we intentionally don't return to the previous ran task here
         Iterator<CoopFuture<?>> iter = tasks.values()
@@ -93,11 +96,13 @@ public final class CooperativeScheduler {
                         + " microseconds");
             }
 
-            if ((end - start) > Gregtech.general.schedulerDuration) {
+            if ((end - start) > duration) {
                 break;
             }
         }
 
+        TickBudget.INSTANCE.finish(TickBudget.Category.SCHEDULED_TASK, start);
+
         if (Gregtech.general.schedulerProfileLevel >= 1) {
             GTMod.GT_FML_LOGGER.info(
                 "Task scheduler took " + GTUtility.formatNumbers((System.nanoTime() - start) / 1e3) + " microseconds");
@@ -193,7 +198,7 @@ public final class CooperativeScheduler {
         @Override
         public boolean shouldYield() {
             return (end = System.nanoTime()) - start
-                > (Gregtech.general.schedulerDuration / Math.min(tasks.size(), Gregtech.general.maxTaskCount));
+                > (duration / Math.min(tasks.size(), Gregtech.general.maxTaskCount));
         }
 
         @Override
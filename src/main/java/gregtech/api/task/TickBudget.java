@@ -0,0 +1,103 @@
+package gregtech.api.task;
+
+import java.util.concurrent.TimeUnit;
+
+import cpw.mods.fml.common.FMLCommonHandler;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.Phase;
+import gregtech.api.metrics.GTMetrics;
+import gregtech.common.config.Gregtech;
+
+/**
+ * Keeps track of how long server ticks take, and makes work that can just as well happen a bit later, like periodic
+ * recipe checks of idle machines, wait while the ticks are over the configured budget. This way a heavy server slows
+ * down GT's housekeeping before it starts dropping TPS.
+ * <p>
+ * The time spent on each kind of work, and how often it was deferred, are published as {@link GTMetrics}.
+ */
+public final class TickBudget {
+
+    public static final TickBudget INSTANCE = new TickBudget();
+
+    public enum Category {
+
+        RECIPE_CHECK("recipe_check", "recipe checks of machines"),
+        STRUCTURE_CHECK("structure_check", "structure checks of multiblocks"),
+        SCHEDULED_TASK("scheduled_task", "tasks of the cooperative scheduler");
+
+        private final GTMetrics.Counter nanos;
+        private final GTMetrics.Counter deferrals;
+
+        Category(String name, String description) {
+            nanos = GTMetrics.counter(
+                "gt_tick_budget_" + name + "_nanoseconds_total",
+                "Time spent on " + description);
+            deferrals = GTMetrics.counter(
+                "gt_tick_budget_" + name + "_deferred_total",
+                "Times " + description + " were put off because the server was behind");
+        }
+    }
+
+    private long tickStart;
+    /** Moving average of the tick time, weighing the last tick with 1/8 */
+    private long averageTickNanos;
+    private boolean behind;
+
+    private TickBudget() {
+        FMLCommonHandler.instance()
+            .bus()
+            .register(this);
+        GTMetrics.gauge(
+            "gt_tick_budget_behind",
+            "1 if the average tick time is over the tick budget, so that deferrable work is put off",
+            () -> behind ? 1 : 0);
+    }
+
+    @SubscribeEvent
+    public void tick(TickEvent.ServerTickEvent event) {
+        if (event.phase == Phase.START) {
+            tickStart = System.nanoTime();
+            return;
+        }
+        // registered in the middle of a tick
+        if (tickStart == 0) return;
+
+        averageTickNanos += (System.nanoTime() - tickStart - averageTickNanos) / 8;
+        final int budget = Gregtech.general.tickBudget;
+        behind = budget > 0 && averageTickNanos > TimeUnit.MILLISECONDS.toNanos(budget);
+    }
+
+    /**
+     * @return If the average tick time is over the budget
+     */
+    public boolean isBehind() {
+        return behind;
+    }
+
+    /**
+     * Asks whether deferrable work may run on this tick.
+     *
+     * @return True if it may. False if the server is behind, in which case the work counts as deferred and should be
+     *         tried again on a later tick.
+     */
+    public boolean tryRun(Category category) {
+        if (!behind) return true;
+        category.deferrals.increment();
+        return false;
+    }
+
+    /**
+     * @return The start time of some work to pass to {@link #finish}, or 0 if the metrics aren't collected
+     */
+    public long start() {
+        return GTMetrics.enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Adds the time since {@link #start} to the category.
+     */
+    public void finish(Category category, long start) {
+        if (start != 0) category.nanos.add(System.nanoTime() - start);
+    }
+}
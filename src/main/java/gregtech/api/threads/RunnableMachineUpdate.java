@@ -1,6 +1,6 @@
 package gregtech.api.threads;
 
-import java.util.LinkedList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
@@ -17,13 +17,14 @@ import net.minecraftforge.common.util.ForgeDirection;
 import com.gtnewhorizon.gtnhlib.util.CoordinatePacker;
 
 import gregtech.GTMod;
-import gregtech.api.GregTechAPI;
 import gregtech.api.interfaces.metatileentity.IMetaTileEntity;
+import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.interfaces.tileentity.IMachineBlockUpdateable;
 import gregtech.api.metatileentity.BaseMetaPipeEntity;
 import gregtech.api.metatileentity.MetaPipeEntity;
-import gregtech.api.metatileentity.implementations.MTEFrame;
+import gregtech.api.metatileentity.implementations.MTEMultiBlockBase;
 import gregtech.common.config.Gregtech;
+import gregtech.common.data.GTStructureIndex;
 import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
 import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import it.unimi.dsi.fastutil.longs.LongSet;
@@ -35,6 +36,8 @@ public class RunnableMachineUpdate implements Runnable {
     protected final World world;
     protected final LongSet visited = new LongOpenHashSet();
     protected final LongArrayFIFOQueue tQueue = new LongArrayFIFOQueue();
+    /** Machines the structure index already notified of this update */
+    protected final List<IMetaTileEntity> notified;
 
     // Threading
     private static final ThreadFactory THREAD_FACTORY = r -> {
@@ -48,7 +51,13 @@ public class RunnableMachineUpdate implements Runnable {
 
     // This class should never be initiated outside of this class!
     protected RunnableMachineUpdate(World aWorld, int posX, int posY, int posZ) {
+        this(aWorld, posX, posY, posZ, Collections.emptyList());
+    }
+
+    protected RunnableMachineUpdate(World aWorld, int posX, int posY, int posZ,
+        List<IMetaTileEntity> notified) {
         this.world = aWorld;
+        this.notified = notified;
         this.initialX = posX;
         this.initialY = posY;
         this.initialZ = posZ;
@@ -102,7 +111,9 @@ public class RunnableMachineUpdate implements Runnable {
 
     public static void setMachineUpdateValues(World aWorld, int posX, int posY, int posZ) {
         if (isEnabled() && isCurrentThreadEnabled()) {
-            postTaskToRun(new RunnableMachineUpdate(aWorld, posX, posY, posZ));
+            // machines covering this position are found through the structure index, the rest only hears of neighbours
+            final List<IMetaTileEntity> notified = GTStructureIndex.notifyContaining(aWorld, posX, posY, posZ);
+            new RunnableMachineUpdate(aWorld, posX, posY, posZ, notified).run();
         }
     }
 
@@ -151,85 +162,31 @@ public class RunnableMachineUpdate implements Runnable {
         }
     }
 
+    /**
+     * Notifies the block at the update's position and the blocks right next to it, except for the machines the
+     * structure index already notified. Machines further away only learn of the update through the index. Called on the
+     * server thread, so the world is read directly.
+     */
     @Override
     public void run() {
-        int posX, posY, posZ;
-        List<BMPEdata> adjacentCableList = new LinkedList<>();
-        LongSet adjacentCableKeys = new LongOpenHashSet();
         try {
-            while (!tQueue.isEmpty()) {
-                final long packedCoords = tQueue.dequeueLong();
-                posX = CoordinatePacker.unpackX(packedCoords);
-                posY = CoordinatePacker.unpackY(packedCoords);
-                posZ = CoordinatePacker.unpackZ(packedCoords);
-
-                final TileEntity tTileEntity;
-                final boolean isMachineBlock;
-
-                // This might load a chunk... which might load a TileEntity... which might get added to
-                // `loadedTileEntityList`... which might be in the process
-                // of being iterated over during `UpdateEntities()`... which might cause a
-                // ConcurrentModificationException. So, lock that shit.
-                GTMod.proxy.TICK_LOCK.lock();
-                try {
-                    tTileEntity = world.getTileEntity(posX, posY, posZ);
-                    isMachineBlock = GregTechAPI
-                        .isMachineBlock(world.getBlock(posX, posY, posZ), world.getBlockMetadata(posX, posY, posZ));
-                } finally {
-                    GTMod.proxy.TICK_LOCK.unlock();
-                }
-
-                // See if the block itself needs an update
-                if (tTileEntity instanceof IMachineBlockUpdateable)
-                    ((IMachineBlockUpdateable) tTileEntity).onMachineBlockUpdate();
-
-                // Skip propagation through pipes\cables\etc, but save some BaseMetaPipeEntity data for later
+            final TileEntity center = getLoadedTileEntity(initialX, initialY, initialZ);
+            notifyTileEntity(center);
+            for (ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+                final int x = initialX + side.offsetX, y = initialY + side.offsetY, z = initialZ + side.offsetZ;
+                final TileEntity neighbour = getLoadedTileEntity(x, y, z);
+                notifyTileEntity(neighbour);
+
+                // a machine appearing or disappearing next to a cable changes its network
                 if (Gregtech.features.speedupMachineUpdateThread) {
-                    final boolean isBaseMetaPipeEntity = tTileEntity instanceof BaseMetaPipeEntity;
-                    if (isBaseMetaPipeEntity) {
-                        final BMPEdata bmpeData = new BMPEdata((BaseMetaPipeEntity) tTileEntity, posX, posY, posZ);
-                        adjacentCableKeys.add(packedCoords);
-                        adjacentCableList.add(bmpeData);
-                        if (!bmpeData.isPotentialStructureBlock) continue;
+                    if (isConnectedCable(center, side) && !(neighbour instanceof BaseMetaPipeEntity)) {
+                        RunnableCableUpdate.setCableUpdateValues(world, initialX, initialY, initialZ);
                     }
-                }
-
-                // Now see if we should add the nearby blocks to the queue:
-                // 1) If we've visited less than 5 blocks, then yes
-                // 2) If the tile says we should recursively updated (pipes don't, machine blocks do)
-                // 3) If the block at the coordinates is marked as a machine block
-                if (visited.size() < 5
-                    || (tTileEntity instanceof IMachineBlockUpdateable
-                        && ((IMachineBlockUpdateable) tTileEntity).isMachineBlockUpdateRecursive())
-                    || isMachineBlock) {
-                    for (int i = 0; i < ForgeDirection.VALID_DIRECTIONS.length; i++) {
-                        final ForgeDirection side = ForgeDirection.VALID_DIRECTIONS[i];
-                        final long tCoords = CoordinatePacker
-                            .pack(posX + side.offsetX, posY + side.offsetY, posZ + side.offsetZ);
-                        if (visited.add(tCoords)) {
-                            tQueue.enqueue(tCoords);
-                        }
+                    if (isConnectedCable(neighbour, side.getOpposite()) && !(center instanceof BaseMetaPipeEntity)) {
+                        RunnableCableUpdate.setCableUpdateValues(world, x, y, z);
                     }
                 }
             }
-
-            // Check for connected cables-likes and create RunnableCableUpdate for them.
-            // Requires a full list of visited machines to avoid missing not-yet-visited connections
-            // and a full list of BMPEs to avoid false-positives (e.g. cable runs)
-            for (var cable : adjacentCableList) {
-                if (!cable.isMetaPipe) continue;
-                for (int i = 0; i < ForgeDirection.VALID_DIRECTIONS.length; i++) {
-                    final ForgeDirection side = ForgeDirection.VALID_DIRECTIONS[i];
-                    if (!cable.metaPipe.isConnectedAtSide(side)) continue;
-                    final long targetCoords = CoordinatePacker
-                        .pack(cable.x + side.offsetX, cable.y + side.offsetY, cable.z + side.offsetZ);
-                    if (adjacentCableKeys.contains(targetCoords)) continue;
-                    if (visited.contains(targetCoords)) {
-                        RunnableCableUpdate.setCableUpdateValues(world, cable.x, cable.y, cable.z);
-                    }
-                }
-            }
-
         } catch (Exception e) {
             GTMod.GT_FML_LOGGER.error(
                 "Well this update was broken... " + initialX
@@ -246,24 +203,25 @@ public class RunnableMachineUpdate implements Runnable {
         }
     }
 
-    private static class BMPEdata {
-
-        final int x, y, z;
-        final BaseMetaPipeEntity baseMetaPipe;
-        final IMetaTileEntity metaTile;
-        final MetaPipeEntity metaPipe;
-        final boolean isMetaPipe;
-        final boolean isPotentialStructureBlock;
+    private TileEntity getLoadedTileEntity(int x, int y, int z) {
+        return world.blockExists(x, y, z) ? world.getTileEntity(x, y, z) : null;
+    }
 
-        BMPEdata(BaseMetaPipeEntity bmpe, int x, int y, int z) {
-            this.x = x;
-            this.y = y;
-            this.z = z;
-            baseMetaPipe = bmpe;
-            metaTile = baseMetaPipe.getMetaTileEntity();
-            isMetaPipe = metaTile instanceof MetaPipeEntity;
-            metaPipe = isMetaPipe ? (MetaPipeEntity) metaTile : null;
-            isPotentialStructureBlock = metaPipe instanceof MTEFrame;
+    private void notifyTileEntity(TileEntity tileEntity) {
+        if (!(tileEntity instanceof IMachineBlockUpdateable listener)) return;
+        if (tileEntity instanceof IGregTechTileEntity gte) {
+            final IMetaTileEntity metaTileEntity = gte.getMetaTileEntity();
+            if (notified.contains(metaTileEntity)) return;
+            if (metaTileEntity instanceof MTEMultiBlockBase multi) {
+                multi.onStructureBlockUpdate(initialX, initialY, initialZ);
+            }
         }
+        listener.onMachineBlockUpdate();
+    }
+
+    private static boolean isConnectedCable(TileEntity tileEntity, ForgeDirection side) {
+        return tileEntity instanceof BaseMetaPipeEntity pipe
+            && pipe.getMetaTileEntity() instanceof MetaPipeEntity metaPipe
+            && metaPipe.isConnectedAtSide(side);
     }
 }
@@ -2,6 +2,10 @@ package gregtech.api.util;
 
 import static gregtech.api.enums.Mods.GregTech;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.DataOutput;
@@ -10,6 +14,8 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Array;
@@ -24,11 +30,15 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 
 import javax.annotation.ParametersAreNonnullByDefault;
 
@@ -40,6 +50,8 @@ import net.minecraftforge.event.world.WorldEvent;
 
 import org.apache.commons.io.FileUtils;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import cpw.mods.fml.common.eventhandler.SubscribeEvent;
 import gregtech.api.enums.GTValues;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
@@ -55,9 +67,13 @@ import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
  * <p>
  * It should be noted this class is NOT thread safe.
  * <p>
- * Element cannot be null.
+ * Saving is write-behind: a dirty region is serialized into memory on the calling thread, and the file is written by a
+ * background thread afterwards. A region that is loaded again before its write finished is read from that snapshot.
+ * <p>
+ * Regions are loaded on first access and unloaded again when a world save finds them idle for
+ * {@link #REGION_IDLE_TICKS}, so don't hold on to the returned elements across ticks.
  * <p>
- * TODO: Implement automatic region unloading.
+ * Element cannot be null.
  *
  * @param <T> data element type
  * @author glease
@@ -75,6 +91,26 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
                 / 3));
     private static final ExecutorService IO_WORKERS = Executors.newWorkStealingPool(IO_PARALLELISM);
     private static final Pattern FILE_PATTERN = Pattern.compile("(.+)\\.(-?\\d+)\\.(-?\\d+)\\.dat");
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(
+        new ThreadFactoryBuilder().setNameFormat("GT Chunk Data Writer")
+            .setDaemon(true)
+            .build());
+    /**
+     * Latest not yet written snapshot of each region file. An entry is only removed once its snapshot is on disk.
+     */
+    private static final Map<File, byte[]> PENDING_WRITES = new ConcurrentHashMap<>();
+    /** Only used on the writer thread */
+    private static final Deflater DEFLATER = new Deflater(Deflater.BEST_SPEED);
+    private static final long SHUTDOWN_FLUSH_TIMEOUT = TimeUnit.SECONDS.toMillis(30);
+    private static final byte STORAGE_FORMAT_V0 = 0;
+    /** V0 data except the storage format byte, deflate-compressed */
+    private static final byte STORAGE_FORMAT_V0_DEFLATE = 1;
+    /** Snapshot marking a file to be deleted */
+    private static final byte[] DELETED = new byte[0];
+    /**
+     * Regions that were not accessed for this many ticks are unloaded on world save.
+     */
+    public static final long REGION_IDLE_TICKS = 6000;
 
     static {
         // register event handler
@@ -137,15 +173,20 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
     }
 
     public final T get(World world, int chunkX, int chunkZ) {
-        SuperRegion region = masterMap.computeIfAbsent(world.provider.dimensionId, ignored -> new ConcurrentHashMap<>())
-            .computeIfAbsent(getRegionID(chunkX, chunkZ), c -> new SuperRegion(world, c));
+        SuperRegion region = getRegion(world, chunkX, chunkZ);
         return region.get(Math.floorMod(chunkX, regionLength), Math.floorMod(chunkZ, regionLength));
     }
 
     protected final void set(World world, int chunkX, int chunkZ, T data) {
+        SuperRegion region = getRegion(world, chunkX, chunkZ);
+        region.set(Math.floorMod(chunkX, regionLength), Math.floorMod(chunkZ, regionLength), data);
+    }
+
+    private SuperRegion getRegion(World world, int chunkX, int chunkZ) {
         SuperRegion region = masterMap.computeIfAbsent(world.provider.dimensionId, ignored -> new ConcurrentHashMap<>())
             .computeIfAbsent(getRegionID(chunkX, chunkZ), c -> new SuperRegion(world, c));
-        region.set(Math.floorMod(chunkX, regionLength), Math.floorMod(chunkZ, regionLength), data);
+        region.lastAccess = world.getTotalWorldTime();
+        return region;
     }
 
     protected final boolean isCreated(int dimId, int chunkX, int chunkZ) {
@@ -182,26 +223,24 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
                         .stream()));
     }
 
+    /**
+     * Save the regions of the given world and unload those that have been idle for a while.
+     */
     public void save(World world) {
         Map<ChunkCoordIntPair, SuperRegion> map = masterMap.get(world.provider.dimensionId);
-        if (map != null) saveRegions(
+        if (map == null) return;
+        saveRegions(
             map.values()
                 .stream());
+        long now = world.getTotalWorldTime();
+        // everything removed here was just saved, so it will be read back from the pending write or the file
+        map.values()
+            .removeIf(r -> now - r.lastAccess > REGION_IDLE_TICKS);
     }
 
     private void saveRegions(Stream<SuperRegion> stream) {
         stream.filter(SuperRegion::isDirty)
-            .map(c -> (Runnable) c::save)
-            .map(r -> CompletableFuture.runAsync(r, IO_WORKERS))
-            .reduce(CompletableFuture::allOf)
-            .ifPresent(f -> {
-                try {
-                    f.get();
-                } catch (Exception e) {
-                    GTLog.err.println("Data save error: " + mId);
-                    e.printStackTrace(GTLog.err);
-                }
-            });
+            .forEach(SuperRegion::save);
     }
 
     protected abstract void writeElement(DataOutput output, T element, World world, int chunkX, int chunkZ)
@@ -226,6 +265,131 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
         for (GTChunkAssociatedData<?> d : instances.values()) d.save();
     }
 
+    /**
+     * Wait for the background writer to put all saved regions on disk, giving up after a while so that a stuck file
+     * system cannot hang the shutdown.
+     *
+     * @return whether everything was written
+     */
+    public static boolean flushPendingWrites() {
+        long deadline = System.currentTimeMillis() + SHUTDOWN_FLUSH_TIMEOUT;
+        while (!PENDING_WRITES.isEmpty()) {
+            if (System.currentTimeMillis() >= deadline) {
+                GTLog.err.println(
+                    "Timed out writing ChunkAssociatedData, " + PENDING_WRITES.size()
+                        + " regions might have been lost!");
+                return false;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                    .interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Save an additional file, written behind like the regions are. The file will be read back by
+     * {@link #loadAuxiliary(File, IOConsumer)}.
+     */
+    protected static void saveAuxiliary(File file, IOConsumer<DataOutput> writer) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeByte(STORAGE_FORMAT_V0);
+            writer.accept(output);
+        }
+        enqueueWrite(file, bytes.toByteArray());
+    }
+
+    /**
+     * Read a file saved by {@link #saveAuxiliary(File, IOConsumer)}, including a save that is still being written.
+     *
+     * @return false if there is no such file
+     */
+    protected static boolean loadAuxiliary(File file, IOConsumer<DataInput> reader) throws IOException {
+        byte[] pending = PENDING_WRITES.get(file);
+        if (pending == DELETED || (pending == null && !file.isFile())) return false;
+        try (InputStream stream = pending != null ? new ByteArrayInputStream(pending)
+            : new BufferedInputStream(new FileInputStream(file)); DataInputStream input = openStorage(stream)) {
+            reader.accept(input);
+        }
+        return true;
+    }
+
+    /**
+     * Read the storage format byte and return the stored data behind it. Closing the result closes the stream.
+     */
+    private static DataInputStream openStorage(InputStream stream) throws IOException {
+        DataInputStream input = new DataInputStream(stream);
+        byte b = input.readByte();
+        if (b == STORAGE_FORMAT_V0) return input;
+        if (b == STORAGE_FORMAT_V0_DEFLATE)
+            return new DataInputStream(new BufferedInputStream(new InflaterInputStream(stream)));
+        throw new IOException("Unknown ChunkAssociatedData version " + b);
+    }
+
+    private static void enqueueWrite(File target, byte[] snapshot) {
+        // a task is already queued for this file if there was a snapshot before, and it will pick up the new one
+        if (PENDING_WRITES.put(target, snapshot) == null) WRITER.execute(() -> drainPendingWrites(target));
+    }
+
+    private static void drainPendingWrites(File target) {
+        byte[] snapshot;
+        while ((snapshot = PENDING_WRITES.get(target)) != null) {
+            try {
+                writeSnapshot(target, snapshot);
+            } catch (IOException | RuntimeException e) {
+                GTLog.err.println("Error saving data " + target.getPath());
+                e.printStackTrace(GTLog.err);
+            }
+            // only done if no newer snapshot arrived in the meantime
+            if (PENDING_WRITES.remove(target, snapshot)) return;
+        }
+    }
+
+    private static void writeSnapshot(File target, byte[] snapshot) throws IOException {
+        File tmpFile = getTmpFile(target);
+        if (snapshot == DELETED) {
+            Files.deleteIfExists(target.toPath());
+            Files.deleteIfExists(tmpFile.toPath());
+            return;
+        }
+        // noinspection ResultOfMethodCallIgnored
+        target.getParentFile()
+            .mkdirs();
+        try (OutputStream output = new BufferedOutputStream(new FileOutputStream(tmpFile))) {
+            if (GTValues.compressWorldData) {
+                output.write(STORAGE_FORMAT_V0_DEFLATE);
+                DEFLATER.reset();
+                DeflaterOutputStream deflated = new DeflaterOutputStream(output, DEFLATER);
+                deflated.write(snapshot, 1, snapshot.length - 1);
+                deflated.finish();
+            } else {
+                output.write(snapshot);
+            }
+        }
+        // first try to replace the destination file
+        // since atomic operation, no need to keep the backup in place
+        try {
+            Files.move(
+                tmpFile.toPath(),
+                target.toPath(),
+                StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException ignored) {
+            // in case some dumb system/jre combination would cause this
+            // or if **somehow** two file inside the same directory belongs two separate filesystem
+            FileUtils.copyFile(tmpFile, target);
+        }
+    }
+
+    private static File getTmpFile(File file) {
+        return new File(file.getParentFile(), file.getName() + ".tmp");
+    }
+
     /**
      * Load data for all chunks for a given world. Current data for that world will be discarded. If this is what you
      * intended, call {@link #save(World)} beforehand.
@@ -235,16 +399,22 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
     protected void loadAll(World w) {
         if (GTValues.debugWorldData && masterMap.containsKey(w.provider.dimensionId)) GTLog.err.println(
             "Reloading ChunkAssociatedData " + mId + " for world " + w.provider.dimensionId + " discards old data!");
-        if (!getSaveDirectory(w).isDirectory())
-            // nothing to load...
-            return;
-        try (Stream<Path> stream = Files.list(getSaveDirectory(w).toPath())) {
-            Map<ChunkCoordIntPair, SuperRegion> worldData = stream.map(f -> {
-                Matcher matcher = FILE_PATTERN.matcher(
-                    f.getFileName()
-                        .toString());
-                return matcher.matches() ? matcher : null;
-            })
+        File saveDirectory = getSaveDirectory(w);
+        // regions that are only waiting for the writer do not have a file yet
+        Stream<Path> pending = PENDING_WRITES.keySet()
+            .stream()
+            .filter(f -> saveDirectory.equals(f.getParentFile()) && PENDING_WRITES.get(f) != DELETED)
+            .map(File::toPath);
+        try (Stream<Path> stream = saveDirectory.isDirectory() ? Files.list(saveDirectory.toPath())
+            : Stream.empty()) {
+            Map<ChunkCoordIntPair, SuperRegion> worldData = Stream.concat(stream, pending)
+                .distinct()
+                .map(f -> {
+                    Matcher matcher = FILE_PATTERN.matcher(
+                        f.getFileName()
+                            .toString());
+                    return matcher.matches() ? matcher : null;
+                })
                 .filter(Objects::nonNull)
                 .filter(m -> mId.equals(m.group(1)))
                 .map(
@@ -280,6 +450,12 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
         return new File(base, GregTech.ID);
     }
 
+    @FunctionalInterface
+    protected interface IOConsumer<V> {
+
+        void accept(V value) throws IOException;
+    }
+
     public interface IData {
 
         /**
@@ -297,12 +473,17 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
          * Be aware, this means region coord, not bottom-left chunk coord
          */
         private final ChunkCoordIntPair coord;
+        /** Whether there is data for this region on disk or waiting to be written */
+        private boolean persisted;
+        private long lastAccess;
 
         private SuperRegion(World world, int regionX, int regionZ) {
             this.world = new WeakReference<>(world);
             this.coord = new ChunkCoordIntPair(regionX, regionZ);
             backingStorage = new File(getSaveDirectory(world), String.format("%s.%d.%d.dat", mId, regionX, regionZ));
-            if (backingStorage.isFile()) load();
+            lastAccess = world.getTotalWorldTime();
+            persisted = hasStoredData();
+            if (persisted) load();
         }
 
         private SuperRegion(World world, ChunkCoordIntPair regionCoord) {
@@ -311,7 +492,9 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
             backingStorage = new File(
                 getSaveDirectory(world),
                 String.format("%s.%d.%d.dat", mId, regionCoord.chunkXPos, regionCoord.chunkZPos));
-            if (backingStorage.isFile()) load();
+            lastAccess = world.getTotalWorldTime();
+            persisted = hasStoredData();
+            if (persisted) load();
         }
 
         @SuppressWarnings("unchecked")
@@ -358,7 +541,15 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
             return index % regionLength + coord.chunkZPos * regionLength;
         }
 
+        /**
+         * @return Whether this region needs to be saved. Persisted regions always do, so that stale data on disk is
+         *         replaced once everything went back to default.
+         */
         public boolean isDirty() {
+            return persisted || hasNonDefaultData();
+        }
+
+        private boolean hasNonDefaultData() {
             for (T datum : data) {
                 if (datum != null && !datum.isSameAsDefault()) return true;
             }
@@ -367,24 +558,31 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
 
         public void save() {
             try {
-                save0();
-            } catch (IOException e) {
+                if (hasNonDefaultData()) {
+                    enqueueWrite(backingStorage, snapshot());
+                    persisted = true;
+                } else if (persisted) {
+                    enqueueWrite(backingStorage, DELETED);
+                    persisted = false;
+                }
+            } catch (IOException | RuntimeException e) {
                 GTLog.err.println("Error saving data " + backingStorage.getPath());
                 e.printStackTrace(GTLog.err);
             }
         }
 
-        private void save0() throws IOException {
-            // noinspection ResultOfMethodCallIgnored
-            backingStorage.getParentFile()
-                .mkdirs();
-            File tmpFile = getTmpFile();
+        /**
+         * Serialize this region in the uncompressed storage format. Has to happen on the server thread, since the
+         * elements are mutable.
+         */
+        private byte[] snapshot() throws IOException {
             World world = Objects.requireNonNull(this.world.get(), "Attempting to save region of another world!");
-            try (DataOutputStream output = new DataOutputStream(new FileOutputStream(tmpFile))) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream output = new DataOutputStream(bytes)) {
                 int ptr = 0;
                 boolean nullRange = data[0] == null;
                 // write a magic byte as storage format version
-                output.writeByte(0);
+                output.writeByte(STORAGE_FORMAT_V0);
                 // write a magic byte as data format version
                 output.writeByte(version);
                 output.writeBoolean(nullRange);
@@ -403,22 +601,27 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
                     nullRange = !nullRange;
                 }
             }
-            // first try to replace the destination file
-            // since atomic operation, no need to keep the backup in place
-            try {
-                Files.move(
-                    tmpFile.toPath(),
-                    backingStorage.toPath(),
-                    StandardCopyOption.REPLACE_EXISTING,
-                    StandardCopyOption.ATOMIC_MOVE);
-            } catch (AtomicMoveNotSupportedException ignored) {
-                // in case some dumb system/jre combination would cause this
-                // or if **somehow** two file inside the same directory belongs two separate filesystem
-                FileUtils.copyFile(tmpFile, backingStorage);
-            }
+            return bytes.toByteArray();
+        }
+
+        private boolean hasStoredData() {
+            byte[] pending = PENDING_WRITES.get(backingStorage);
+            return pending != null ? pending != DELETED : backingStorage.isFile();
         }
 
         public void load() {
+            byte[] pending = PENDING_WRITES.get(backingStorage);
+            if (pending == DELETED) return;
+            if (pending != null) {
+                // the file on disk is older than this
+                try {
+                    loadFromStream(new ByteArrayInputStream(pending));
+                    return;
+                } catch (IOException | RuntimeException e) {
+                    GTLog.err.println("Pending save broken for " + backingStorage.getPath());
+                    e.printStackTrace(GTLog.err);
+                }
+            }
             try {
                 loadFromFile(backingStorage);
             } catch (IOException | RuntimeException e) {
@@ -426,7 +629,7 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
                 e.printStackTrace(GTLog.err);
                 // in case the primary storage is broken
                 try {
-                    loadFromFile(getTmpFile());
+                    loadFromFile(getTmpFile(backingStorage));
                 } catch (IOException | RuntimeException e2) {
                     GTLog.err.println("Backup storage file broken in " + backingStorage.getPath());
                     e2.printStackTrace(GTLog.err);
@@ -435,14 +638,15 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
         }
 
         private void loadFromFile(File file) throws IOException {
+            try (InputStream input = new BufferedInputStream(new FileInputStream(file))) {
+                loadFromStream(input);
+            }
+        }
+
+        private void loadFromStream(InputStream stream) throws IOException {
             World world = Objects.requireNonNull(this.world.get(), "Attempting to load region of another world!");
-            try (DataInputStream input = new DataInputStream(new FileInputStream(file))) {
-                byte b = input.readByte();
-                if (b == 0) {
-                    loadV0(input, world);
-                } else {
-                    GTLog.err.printf("Unknown ChunkAssociatedData version %d\n", b);
-                }
+            try (DataInputStream input = openStorage(stream)) {
+                loadV0(input, world);
             }
         }
 
@@ -463,10 +667,6 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
                 nullRange = !nullRange;
             }
         }
-
-        private File getTmpFile() {
-            return new File(backingStorage.getParentFile(), backingStorage.getName() + ".tmp");
-        }
     }
 
     public static class EventHandler {
@@ -48,6 +48,8 @@ public class GTOreDictUnificator {
         GTItemStack.ITEMSTACK_HASH_STRATEGY2);
     private static final Set<ItemStack> sNoUnificationList = new ObjectOpenCustomHashSet<>(
         GTItemStack.ITEMSTACK_HASH_STRATEGY2);
+    /** Frozen copy of {@link #sItemStack2DataMap} for lookups after loading, dropped whenever the map changes */
+    private static volatile ItemDataTable sItemDataTable;
     private static int isRegisteringOre = 0, isAddingOre = 0;
     private static boolean mRunThroughTheList = true;
 
@@ -344,7 +346,8 @@ public class GTOreDictUnificator {
     }
 
     public static void addItemData(ItemStack aStack, ItemData aData) {
-        if (GTUtility.isStackValid(aStack) && getItemData(aStack) == null && aData != null) setItemData(aStack, aData);
+        if (GTUtility.isStackValid(aStack) && getItemDataFromMap(aStack) == null && aData != null)
+            setItemData(aStack, aData);
     }
 
     public static void addItemDataFromInputs(ItemStack output, Object... inputs) {
@@ -366,7 +369,8 @@ public class GTOreDictUnificator {
 
     public static void setItemData(ItemStack aStack, ItemData aData) {
         if (GTUtility.isStackInvalid(aStack) || aData == null) return;
-        ItemData tData = getItemData(aStack);
+        // not through the table, which would be built just to be dropped again by this change
+        ItemData tData = getItemDataFromMap(aStack);
         if (tData == null || !tData.hasValidPrefixMaterialData()) {
             if (tData != null) for (Object tObject : tData.mExtraData)
                 if (!aData.mExtraData.contains(tObject)) aData.mExtraData.add(tObject);
@@ -376,6 +380,7 @@ public class GTOreDictUnificator {
                 aStack = GTUtility.copyAmount(1, aStack);
             }
             sItemStack2DataMap.put(aStack, aData);
+            sItemDataTable = null;
             if (aData.hasValidMaterialData()) {
                 long tValidMaterialAmount = aData.mMaterial.mMaterial.contains(SubTag.NO_RECYCLING) ? 0
                     : aData.mMaterial.mAmount >= 0 ? aData.mMaterial.mAmount : M;
@@ -408,6 +413,7 @@ public class GTOreDictUnificator {
             return;
         }
         sItemStack2DataMap.remove(aStack);
+        sItemDataTable = null;
     }
 
     public static void addAssociation(OrePrefixes aPrefix, Materials aMaterial, ItemStack aStack,
@@ -420,6 +426,14 @@ public class GTOreDictUnificator {
 
     @Nullable
     public static ItemData getItemData(ItemStack aStack) {
+        if (GTUtility.isStackInvalid(aStack)) return null;
+        final ItemDataTable table = getItemDataTable();
+        if (table != null) return table.get(aStack);
+        return getItemDataFromMap(aStack);
+    }
+
+    @Nullable
+    private static ItemData getItemDataFromMap(ItemStack aStack) {
         if (GTUtility.isStackInvalid(aStack)) return null;
         ItemData rData = sItemStack2DataMap.get(aStack);
         if (rData == null) { // Try the lookup again but with wildcard damage value
@@ -428,6 +442,22 @@ public class GTOreDictUnificator {
         return rData;
     }
 
+    /**
+     * @return The frozen item data table, built on first use once loading is done, or null before that. Other mods'
+     *         postInit and late ore registrations still add item data, so freezing earlier would rebuild it over and
+     *         over.
+     */
+    @Nullable
+    private static ItemDataTable getItemDataTable() {
+        if (!GregTechAPI.sFullLoadFinished) return null;
+        ItemDataTable table = sItemDataTable;
+        if (table == null) {
+            table = new ItemDataTable(sItemStack2DataMap);
+            sItemDataTable = table;
+        }
+        return table;
+    }
+
     @Nullable
     public static ItemData getAssociation(ItemStack aStack) {
         ItemData rData = getItemData(aStack);
@@ -128,6 +128,7 @@ import org.joml.Vector3f;
 import org.joml.Vector3i;
 
 import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
@@ -857,10 +858,11 @@ public class GTUtility {
      * @param drainSide side used during draining operation
      * @param maxAmount max amount of fluid to transfer. method become noop if this is not a positive integer
      * @param allowMove filter. can be null to signal all fluids are accepted
+     * @return amount of fluid moved
      */
-    public static void moveFluid(IFluidHandler source, IFluidHandler dest, ForgeDirection drainSide, int maxAmount,
+    public static int moveFluid(IFluidHandler source, IFluidHandler dest, ForgeDirection drainSide, int maxAmount,
         @Nullable Predicate<FluidStack> allowMove) {
-        moveFluid(source, dest, drainSide, drainSide.getOpposite(), maxAmount, allowMove);
+        return moveFluid(source, dest, drainSide, drainSide.getOpposite(), maxAmount, allowMove);
     }
 
     /**
@@ -873,17 +875,19 @@ public class GTUtility {
      * @param fillSide  side used during filling operation
      * @param maxAmount max amount of fluid to transfer. method become noop if this is not a positive integer
      * @param allowMove filter. can be null to signal all fluids are accepted
+     * @return amount of fluid moved
      */
-    public static void moveFluid(IFluidHandler source, IFluidHandler dest, ForgeDirection drainSide,
+    public static int moveFluid(IFluidHandler source, IFluidHandler dest, ForgeDirection drainSide,
         ForgeDirection fillSide, int maxAmount, @Nullable Predicate<FluidStack> allowMove) {
-        if (source == null || dest == null || maxAmount <= 0) return;
+        if (source == null || dest == null || maxAmount <= 0) return 0;
         FluidStack liquid = source.drain(drainSide, maxAmount, false);
-        if (liquid == null) return;
+        if (liquid == null) return 0;
         liquid = liquid.copy();
         liquid.amount = dest.fill(fillSide, liquid, false);
         if (liquid.amount > 0 && (allowMove == null || allowMove.test(liquid))) {
-            dest.fill(fillSide, source.drain(drainSide, liquid.amount, true), true);
+            return dest.fill(fillSide, source.drain(drainSide, liquid.amount, true), true);
         }
+        return 0;
     }
 
     public static boolean listContainsItem(Collection<ItemStack> aList, ItemStack aStack, boolean aTIfListEmpty,
@@ -4371,6 +4375,14 @@ public class GTUtility {
         @Nullable
         public abstract Integer stackSize();
 
+        /**
+         * Hashing the NBT is expensive and ItemIds are mostly used as map keys, so the hash code is computed once. The
+         * NBT must not be mutated afterward anyway, as that would change it.
+         */
+        @Memoized
+        @Override
+        public abstract int hashCode();
+
         public NBTTagCompound writeToNBT() {
             NBTTagCompound tag = new NBTTagCompound();
             tag.setShort("item", (short) Item.getIdFromItem(item()));
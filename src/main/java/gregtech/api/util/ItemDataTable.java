@@ -0,0 +1,92 @@
+package gregtech.api.util;
+
+import static gregtech.api.util.GTRecipeBuilder.WILDCARD;
+
+import java.util.Map;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+import gregtech.api.objects.ItemData;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+
+/**
+ * A frozen copy of the item data map of {@link GTOreDictUnificator}, laid out by item and damage value. Looking up a
+ * stack costs an identity lookup of its item and an array access, instead of hashing a stack, and a miss doesn't have
+ * to copy the stack to retry with the wildcard damage value.
+ * <p>
+ * Items with few damage values spread over a wide range, where an array would mostly be empty, are kept in a hash map
+ * by damage instead.
+ */
+final class ItemDataTable {
+
+    /** Arrays are used if they are this short, or if they have at most this many slots per entry */
+    private static final int MAX_SMALL_LENGTH = 64;
+    private static final int MAX_SLOTS_PER_ENTRY = 8;
+
+    private final Reference2ObjectMap<Item, Entry> entries = new Reference2ObjectOpenHashMap<>();
+
+    ItemDataTable(Map<ItemStack, ItemData> itemData) {
+        final Reference2ObjectMap<Item, Int2ObjectMap<ItemData>> byItem = new Reference2ObjectOpenHashMap<>();
+        for (Map.Entry<ItemStack, ItemData> entry : itemData.entrySet()) {
+            final ItemStack stack = entry.getKey();
+            byItem.computeIfAbsent(stack.getItem(), k -> new Int2ObjectOpenHashMap<>())
+                .put(Items.feather.getDamage(stack), entry.getValue());
+        }
+        for (Reference2ObjectMap.Entry<Item, Int2ObjectMap<ItemData>> entry : byItem.reference2ObjectEntrySet()) {
+            entries.put(entry.getKey(), new Entry(entry.getValue()));
+        }
+    }
+
+    /**
+     * @return The same as looking the stack up in the map this was built from, falling back to its wildcard entry
+     */
+    ItemData get(ItemStack stack) {
+        final Entry entry = entries.get(stack.getItem());
+        return entry == null ? null : entry.get(Items.feather.getDamage(stack));
+    }
+
+    private static final class Entry {
+
+        private final ItemData wildcard;
+        private final ItemData[] dense;
+        private final Int2ObjectMap<ItemData> sparse;
+
+        private Entry(Int2ObjectMap<ItemData> byDamage) {
+            wildcard = byDamage.remove(WILDCARD);
+
+            int maxDamage = -1;
+            boolean negative = false;
+            for (int damage : byDamage.keySet()) {
+                maxDamage = Math.max(maxDamage, damage);
+                negative |= damage < 0;
+            }
+            final int length = maxDamage + 1;
+            if (!negative && length <= Math.max(MAX_SMALL_LENGTH, byDamage.size() * MAX_SLOTS_PER_ENTRY)) {
+                dense = new ItemData[length];
+                for (Int2ObjectMap.Entry<ItemData> entry : byDamage.int2ObjectEntrySet()) {
+                    dense[entry.getIntKey()] = entry.getValue();
+                }
+                sparse = null;
+            } else {
+                dense = null;
+                sparse = byDamage;
+            }
+        }
+
+        private ItemData get(int damage) {
+            if (damage == WILDCARD) return wildcard;
+            final ItemData data;
+            if (dense != null) {
+                data = damage >= 0 && damage < dense.length ? dense[damage] : null;
+            } else {
+                data = sparse.get(damage);
+            }
+            return data != null ? data : wildcard;
+        }
+    }
+}
@@ -16,6 +16,7 @@ import gregtech.api.enums.OutputBusType;
 import gregtech.api.interfaces.IOutputBus;
 import gregtech.api.interfaces.IOutputBusTransaction;
 import gregtech.api.interfaces.tileentity.IVoidable;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMaps;
 
 /**
@@ -33,6 +34,18 @@ public class ItemEjectionHelper {
     private final EnumMap<OutputBusType, List<IOutputBusTransaction>> transactionsByType = new EnumMap<>(
         OutputBusType.class);
 
+    /**
+     * Every unfiltered transaction in ejection order. Items that no filtered bus accepts all share this list instead of
+     * building their own.
+     */
+    private final List<IOutputBusTransaction> unfilteredTransactions = new ArrayList<>();
+
+    /**
+     * True when every bus is an unfiltered ME bus. ME busses accept the whole stack in one call, so items can skip the
+     * slot-by-slot distribution entirely.
+     */
+    private final boolean onlyUnfilteredME;
+
     private boolean active = true;
 
     public ItemEjectionHelper(IVoidable voidable) {
@@ -48,6 +61,19 @@ public class ItemEjectionHelper {
             transactionsByType.computeIfAbsent(bus.getBusType(), x -> new ArrayList<>())
                 .add(bus.createTransaction());
         }
+
+        boolean hasOtherBusses = false;
+
+        for (OutputBusType busType : OutputBusType.values()) {
+            List<IOutputBusTransaction> ofType = transactionsByType.get(busType);
+
+            if (ofType == null) continue;
+
+            if (!busType.isFiltered()) unfilteredTransactions.addAll(ofType);
+            if (busType != OutputBusType.MEUnfiltered) hasOtherBusses = true;
+        }
+
+        onlyUnfilteredME = !hasOtherBusses && !unfilteredTransactions.isEmpty();
     }
 
     /**
@@ -66,6 +92,49 @@ public class ItemEjectionHelper {
         return ejected;
     }
 
+    /**
+     * Ejects several stacks at once. Stacks of the same item are merged before looking for busses, so this is much
+     * cheaper than calling {@link #ejectStack(ItemStack)} for each of them.
+     *
+     * @param stacks The stacks to eject. Ejected items are subtracted from these stacks, in list order.
+     * @return The number of items that were ejected.
+     */
+    public int ejectStacks(List<ItemStack> stacks) {
+        if (stacks == null || stacks.isEmpty()) return 0;
+
+        List<ItemParallelData> outputParallels = eject(stacks, 1);
+
+        Object2IntOpenHashMap<GTUtility.ItemId> ejectedById = new Object2IntOpenHashMap<>(outputParallels.size());
+        int total = 0;
+
+        for (ItemParallelData parallelData : outputParallels) {
+            int ejected = parallelData.initialAmount - parallelData.remaining.stackSize;
+
+            if (ejected <= 0) continue;
+
+            ejectedById.put(parallelData.id, ejected);
+            total += ejected;
+        }
+
+        if (ejectedById.isEmpty()) return 0;
+
+        for (ItemStack stack : stacks) {
+            if (stack == null || stack.getItem() == null) continue;
+
+            GTUtility.ItemId id = GTUtility.ItemId.createNoCopy(stack);
+            int ejected = ejectedById.getInt(id);
+
+            if (ejected <= 0) continue;
+
+            int taken = Math.min(ejected, stack.stackSize);
+
+            stack.stackSize -= taken;
+            ejectedById.put(id, ejected - taken);
+        }
+
+        return total;
+    }
+
     /**
      * Ejects items into the contained output bus transactions, and calculates the number of parallels that were
      * successfully ran.
@@ -77,6 +146,30 @@ public class ItemEjectionHelper {
      */
     public int ejectItems(List<ItemStack> outputs, int startingParallels) {
         if (outputs == null || outputs.isEmpty()) return 0;
+
+        List<ItemParallelData> outputParallels = eject(outputs, startingParallels);
+
+        if (itemProtectionEnabled) {
+            // If we care about protecting the items, reduce the starting parallels by however many batches of items
+            // were ejected.
+            // Otherwise, we can just tell the multi to run the full amount and it'll void everything that doesn't fit.
+
+            for (ItemParallelData parallelData : outputParallels) {
+                int ejected = parallelData.initialAmount - parallelData.remaining.stackSize;
+
+                startingParallels = Math.min(startingParallels, ejected / parallelData.perParallel);
+            }
+        }
+
+        return startingParallels;
+    }
+
+    /**
+     * Merges the outputs by item, then distributes each item over the busses.
+     *
+     * @return The ejection state of every distinct item.
+     */
+    private List<ItemParallelData> eject(List<ItemStack> outputs, int startingParallels) {
         if (!active)
             throw new IllegalStateException("Cannot eject additional items after committing an ItemEjectionHelper");
 
@@ -100,21 +193,15 @@ public class ItemEjectionHelper {
 
             if (parallelData.remaining.stackSize <= 0) continue;
 
-            List<IOutputBusTransaction> transactions = new ArrayList<>(8);
-
-            for (OutputBusType busType : OutputBusType.values()) {
-                List<IOutputBusTransaction> ofType = transactionsByType.get(busType);
-
-                if (ofType == null) continue;
-
-                if (busType.isFiltered()) {
-                    GTDataUtils.addAllFiltered(ofType, transactions, t -> t.isFilteredToItem(parallelData.id));
-                } else {
-                    transactions.addAll(ofType);
+            if (onlyUnfilteredME) {
+                // ME busses take everything in one call, so there's nothing to balance between items
+                for (IOutputBusTransaction transaction : unfilteredTransactions) {
+                    if (transaction.hasAvailableSpace() && transaction.storePartial(id, parallelData.remaining)) break;
                 }
+                continue;
             }
 
-            parallelData.outputs = Iterators.peekingIterator(transactions.iterator());
+            parallelData.outputs = Iterators.peekingIterator(getTransactions(id).iterator());
 
             pendingOutputs.add(parallelData);
         }
@@ -154,19 +241,34 @@ public class ItemEjectionHelper {
             }
         }
 
-        if (itemProtectionEnabled) {
-            // If we care about protecting the items, reduce the starting parallels by however many batches of items
-            // were ejected.
-            // Otherwise, we can just tell the multi to run the full amount and it'll void everything that doesn't fit.
+        return outputParallels;
+    }
 
-            for (ItemParallelData parallelData : outputParallels) {
-                int ejected = parallelData.initialAmount - parallelData.remaining.stackSize;
+    /**
+     * @return Every transaction that may receive the given item, in ejection order.
+     */
+    private List<IOutputBusTransaction> getTransactions(GTUtility.ItemId id) {
+        List<IOutputBusTransaction> transactions = null;
 
-                startingParallels = Math.min(startingParallels, ejected / parallelData.perParallel);
-            }
+        for (OutputBusType busType : OutputBusType.values()) {
+            if (!busType.isFiltered()) continue;
+
+            List<IOutputBusTransaction> ofType = transactionsByType.get(busType);
+
+            if (ofType == null) continue;
+
+            if (transactions == null) transactions = new ArrayList<>(8);
+
+            GTDataUtils.addAllFiltered(ofType, transactions, t -> t.isFilteredToItem(id));
         }
 
-        return startingParallels;
+        // Filtered busses always come before unfiltered ones, so the shared list can be used as-is when no filtered bus
+        // wants this item
+        if (transactions == null || transactions.isEmpty()) return unfilteredTransactions;
+
+        transactions.addAll(unfilteredTransactions);
+
+        return transactions;
     }
 
     public void commit() {
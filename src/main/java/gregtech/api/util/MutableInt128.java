@@ -0,0 +1,267 @@
+package gregtech.api.util;
+
+import java.math.BigInteger;
+
+/**
+ * A mutable signed 128-bit integer for hot arithmetic paths (e.g. energy or fluid storage updated every tick) where
+ * {@link BigInteger} would allocate on every operation.
+ * <p>
+ * All arithmetic saturates at {@link #MAX_VALUE} / {@link #MIN_VALUE} instead of wrapping around. Values are
+ * serialized in the same two's-complement big-endian format as {@link BigInteger#toByteArray()}, so existing NBT tags
+ * written from a {@link BigInteger} can be read back directly and vice versa.
+ */
+public final class MutableInt128 implements Comparable<MutableInt128> {
+
+    public static final BigInteger MAX_VALUE = BigInteger.ONE.shiftLeft(127)
+        .subtract(BigInteger.ONE);
+    public static final BigInteger MIN_VALUE = BigInteger.ONE.shiftLeft(127)
+        .negate();
+
+    private long high;
+    private long low;
+
+    public MutableInt128() {}
+
+    public MutableInt128(long value) {
+        set(value);
+    }
+
+    public MutableInt128(MutableInt128 value) {
+        set(value);
+    }
+
+    public MutableInt128(BigInteger value) {
+        set(value);
+    }
+
+    public MutableInt128 setZero() {
+        high = 0;
+        low = 0;
+        return this;
+    }
+
+    public MutableInt128 set(long value) {
+        high = value >> 63;
+        low = value;
+        return this;
+    }
+
+    public MutableInt128 set(MutableInt128 value) {
+        high = value.high;
+        low = value.low;
+        return this;
+    }
+
+    /**
+     * Sets this to the given value, saturating if it does not fit into 128 bits.
+     */
+    public MutableInt128 set(BigInteger value) {
+        if (value.bitLength() > 127) {
+            if (value.signum() > 0) setMax();
+            else setMin();
+            return this;
+        }
+        low = value.longValue();
+        high = value.shiftRight(64)
+            .longValue();
+        return this;
+    }
+
+    private void setMax() {
+        high = Long.MAX_VALUE;
+        low = -1L;
+    }
+
+    private void setMin() {
+        high = Long.MIN_VALUE;
+        low = 0L;
+    }
+
+    public MutableInt128 add(long value) {
+        return add(value >> 63, value);
+    }
+
+    public MutableInt128 add(MutableInt128 value) {
+        return add(value.high, value.low);
+    }
+
+    private MutableInt128 add(long otherHigh, long otherLow) {
+        final long newLow = low + otherLow;
+        final long carry = Long.compareUnsigned(newLow, low) < 0 ? 1 : 0;
+        final long newHigh = high + otherHigh + carry;
+        if (((high ^ newHigh) & (otherHigh ^ newHigh)) < 0) {
+            // both operands had the same sign and the result flipped it
+            if (high < 0) setMin();
+            else setMax();
+        } else {
+            high = newHigh;
+            low = newLow;
+        }
+        return this;
+    }
+
+    public MutableInt128 subtract(long value) {
+        return subtract(value >> 63, value);
+    }
+
+    public MutableInt128 subtract(MutableInt128 value) {
+        return subtract(value.high, value.low);
+    }
+
+    private MutableInt128 subtract(long otherHigh, long otherLow) {
+        final long newLow = low - otherLow;
+        final long borrow = Long.compareUnsigned(low, otherLow) < 0 ? 1 : 0;
+        final long newHigh = high - otherHigh - borrow;
+        if (((high ^ otherHigh) & (high ^ newHigh)) < 0) {
+            // operands had different signs and the result took the sign of the subtrahend
+            if (high < 0) setMin();
+            else setMax();
+        } else {
+            high = newHigh;
+            low = newLow;
+        }
+        return this;
+    }
+
+    /**
+     * Sets this to the smaller of this and {@code other}.
+     */
+    public MutableInt128 min(MutableInt128 other) {
+        if (compareTo(other) > 0) set(other);
+        return this;
+    }
+
+    /**
+     * Sets this to the larger of this and {@code other}.
+     */
+    public MutableInt128 max(MutableInt128 other) {
+        if (compareTo(other) < 0) set(other);
+        return this;
+    }
+
+    public int signum() {
+        if (high < 0) return -1;
+        return (high | low) == 0 ? 0 : 1;
+    }
+
+    public boolean isZero() {
+        return (high | low) == 0;
+    }
+
+    @Override
+    public int compareTo(MutableInt128 other) {
+        final int cmp = Long.compare(high, other.high);
+        return cmp != 0 ? cmp : Long.compareUnsigned(low, other.low);
+    }
+
+    public int compareTo(long value) {
+        final int cmp = Long.compare(high, value >> 63);
+        return cmp != 0 ? cmp : Long.compareUnsigned(low, value);
+    }
+
+    public boolean fitsInLong() {
+        return high == (low >> 63);
+    }
+
+    /**
+     * @return this value, clamped to the range of a {@code long}
+     */
+    public long longValueClamped() {
+        if (fitsInLong()) return low;
+        return high < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+    }
+
+    /**
+     * @return this value, clamped to the range of an {@code int}
+     */
+    public int intValueClamped() {
+        final long value = longValueClamped();
+        if (value > Integer.MAX_VALUE) return Integer.MAX_VALUE;
+        if (value < Integer.MIN_VALUE) return Integer.MIN_VALUE;
+        return (int) value;
+    }
+
+    public double doubleValue() {
+        if (fitsInLong()) return low;
+        if (high >= 0) return toUnsignedDouble(high) * 0x1.0p64 + toUnsignedDouble(low);
+        // convert the magnitude to avoid cancellation between the two halves
+        final long magnitudeLow = -low;
+        final long magnitudeHigh = ~high + (low == 0 ? 1 : 0);
+        return -(toUnsignedDouble(magnitudeHigh) * 0x1.0p64 + toUnsignedDouble(magnitudeLow));
+    }
+
+    private static double toUnsignedDouble(long value) {
+        return value >= 0 ? value : (double) (value >>> 1) * 2.0 + (value & 1);
+    }
+
+    public BigInteger toBigInteger() {
+        return new BigInteger(toByteArray());
+    }
+
+    /**
+     * @return the minimal two's-complement big-endian representation, identical to {@link BigInteger#toByteArray()}
+     */
+    public byte[] toByteArray() {
+        int length = 16;
+        // drop leading bytes that are pure sign extension of the following byte
+        while (length > 1) {
+            final int lead = byteAt(length - 1);
+            final int next = byteAt(length - 2);
+            if ((lead == 0 && (next & 0x80) == 0) || (lead == 0xFF && (next & 0x80) != 0)) length--;
+            else break;
+        }
+        final byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) byteAt(length - 1 - i);
+        }
+        return bytes;
+    }
+
+    /**
+     * Reads a value written by {@link #toByteArray()} or {@link BigInteger#toByteArray()}. An empty array is read as
+     * zero, and values wider than 128 bits saturate.
+     */
+    public MutableInt128 setFromByteArray(byte[] bytes) {
+        if (bytes.length > 16) return set(new BigInteger(bytes));
+        if (bytes.length == 0) return setZero();
+        long newHigh = bytes[0] < 0 ? -1L : 0L;
+        long newLow = newHigh;
+        for (byte b : bytes) {
+            newHigh = (newHigh << 8) | (newLow >>> 56);
+            newLow = (newLow << 8) | (b & 0xFF);
+        }
+        high = newHigh;
+        low = newLow;
+        return this;
+    }
+
+    /**
+     * @param index byte index counted from the least significant byte
+     */
+    private int byteAt(int index) {
+        final long word = index >= 8 ? high : low;
+        return (int) (word >>> ((index & 7) * 8)) & 0xFF;
+    }
+
+    public MutableInt128 copy() {
+        return new MutableInt128(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MutableInt128 other)) return false;
+        return high == other.high && low == other.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(high) * 31 + Long.hashCode(low);
+    }
+
+    @Override
+    public String toString() {
+        if (fitsInLong()) return Long.toString(low);
+        return toBigInteger().toString();
+    }
+}
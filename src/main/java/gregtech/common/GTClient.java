@@ -104,6 +104,7 @@ import gregtech.common.powergoggles.PowerGogglesCommand;
 import gregtech.common.render.BaseMetaTileEntityRenderer;
 import gregtech.common.render.BlackholeRenderer;
 import gregtech.common.render.DroneRender;
+import gregtech.common.render.DynamicOverlayRenderer;
 import gregtech.common.render.FlaskRenderer;
 import gregtech.common.render.FluidDisplayStackRenderer;
 import gregtech.common.render.GTRendererBlock;
@@ -126,6 +127,7 @@ import gregtech.loaders.ExtraIcons;
 import gregtech.loaders.misc.GTBees;
 import gregtech.loaders.preload.GTPreLoad;
 import gregtech.nei.NEIGTConfig;
+import gregtech.nei.NEIRecipeCachePrewarmer;
 import gtPlusPlus.xmod.gregtech.api.enums.GregtechItemList;
 import paulscode.sound.SoundSystemConfig;
 import paulscode.sound.SoundSystemException;
@@ -350,6 +352,7 @@ public class GTClient extends GTProxy {
         MinecraftForge.EVENT_BUS.register(new MTEAdvDebugStructureWriter.EventHandler());
         powerfailRenderer = new GTPowerfailRenderer();
         MinecraftForge.EVENT_BUS.register(powerfailRenderer);
+        MinecraftForge.EVENT_BUS.register(DynamicOverlayRenderer.INSTANCE);
         shakeLockKey = new KeyBinding("GTPacketInfiniteSpraycan.Action.TOGGLE_SHAKE_LOCK", Keyboard.KEY_NONE, "Gregtech");
         ClientRegistry.registerKeyBinding(shakeLockKey);
 
@@ -447,6 +450,7 @@ public class GTClient extends GTProxy {
                     .isSingleplayer()) {
                     GTModHandler.removeAllIC2Recipes();
                 }
+                if (Client.nei.NEIPrewarmRecipeCaches) NEIRecipeCachePrewarmer.prewarm();
             }
             afterSomeTime++;
             if (afterSomeTime >= 100L) {
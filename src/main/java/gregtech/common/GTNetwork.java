@@ -2,27 +2,40 @@ package gregtech.common;
 
 import static gregtech.GTMod.GT_FML_LOGGER;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.management.PlayerManager;
 import net.minecraft.world.World;
-import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.WorldServer;
 
 import com.google.common.io.ByteArrayDataInput;
 import com.google.common.io.ByteStreams;
 
+import cpw.mods.fml.common.FMLCommonHandler;
+import cpw.mods.fml.common.eventhandler.EventPriority;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
 import cpw.mods.fml.common.network.FMLEmbeddedChannel;
 import cpw.mods.fml.common.network.FMLOutboundHandler;
 import cpw.mods.fml.common.network.NetworkRegistry;
 import cpw.mods.fml.common.network.internal.FMLProxyPacket;
 import cpw.mods.fml.relauncher.Side;
 import gregtech.GTMod;
+import gregtech.api.metrics.GTMetrics;
 import gregtech.api.net.GTPacket;
+import gregtech.api.net.GTPacketBatch;
 import gregtech.api.net.GTPacketTypes;
 import gregtech.api.net.IGT_NetworkHandler;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
@@ -32,14 +45,30 @@ import io.netty.handler.codec.MessageToMessageCodec;
 @ChannelHandler.Sharable
 public class GTNetwork extends MessageToMessageCodec<FMLProxyPacket, GTPacket> implements IGT_NetworkHandler {
 
+    /** Stay below the vanilla custom payload limit, so that batches never need FML's multipart splitting. */
+    private static final int MAX_BATCH_SIZE = 0x100000 - 0x1000;
+    /** Scratch buffers that grew beyond this while encoding a huge packet are dropped instead of being kept around. */
+    private static final int MAX_RETAINED_BUFFER_SIZE = 0x10000;
+
+    private final String mChannelName;
     private final EnumMap<Side, FMLEmbeddedChannel> mChannel;
     private final GTPacket[] mSubChannels;
 
+    /**
+     * Encoded packets per player, queued by the methods that send one packet to many players. They are sent as a
+     * single {@link GTPacketBatch} per player at the end of the server tick. A packet sent right away to one player
+     * first flushes that player's queue, so that players receive packets in the order they were sent.
+     */
+    private final Map<EntityPlayerMP, List<byte[]>> mPendingFrames = new IdentityHashMap<>();
+    /** Reused for encoding queued packets, guarded by {@link #mPendingFrames}. */
+    private ByteBuf mEncodeBuffer = PooledByteBufAllocator.DEFAULT.buffer();
+
     public GTNetwork() {
         this("GregTech", GTPacketTypes.referencePackets());
     }
 
     public GTNetwork(String channelName, GTPacket... packetTypes) {
+        this.mChannelName = channelName;
         this.mChannel = NetworkRegistry.INSTANCE.newChannel(channelName, this, new HandlerShared());
         final int lastPId = packetTypes[packetTypes.length - 1].getPacketID();
         this.mSubChannels = new GTPacket[lastPId + 1];
@@ -48,6 +77,9 @@ public class GTNetwork extends MessageToMessageCodec<FMLProxyPacket, GTPacket> i
             if (this.mSubChannels[pId] == null) this.mSubChannels[pId] = packetType;
             else throw new IllegalArgumentException("Duplicate Packet ID! " + pId);
         }
+        FMLCommonHandler.instance()
+            .bus()
+            .register(this);
     }
 
     @Override
@@ -55,6 +87,8 @@ public class GTNetwork extends MessageToMessageCodec<FMLProxyPacket, GTPacket> i
         final ByteBuf tBuf = Unpooled.buffer()
             .writeByte(aPacket.getPacketID());
         aPacket.encode(tBuf);
+        GTMetrics.PACKETS_SENT.increment();
+        GTMetrics.PACKET_BYTES_SENT.add(tBuf.readableBytes());
         aOutput.add(
             new FMLProxyPacket(
                 tBuf,
@@ -65,12 +99,122 @@ public class GTNetwork extends MessageToMessageCodec<FMLProxyPacket, GTPacket> i
 
     @Override
     protected void decode(ChannelHandlerContext aContext, FMLProxyPacket aPacket, List<Object> aOutput) {
-        final ByteArrayDataInput aData = ByteStreams.newDataInput(
+        final GTPacket tPacket = decodeFrame(
             aPacket.payload()
                 .array());
-        final GTPacket tPacket = this.mSubChannels[aData.readByte()].decode(aData);
-        tPacket.setINetHandler(aPacket.handler());
-        aOutput.add(tPacket);
+        if (tPacket instanceof GTPacketBatch tBatch) {
+            for (byte[] tFrame : tBatch.getFrames()) {
+                final GTPacket tSubPacket = decodeFrame(tFrame);
+                tSubPacket.setINetHandler(aPacket.handler());
+                aOutput.add(tSubPacket);
+            }
+        } else {
+            tPacket.setINetHandler(aPacket.handler());
+            aOutput.add(tPacket);
+        }
+    }
+
+    private GTPacket decodeFrame(byte[] aFrame) {
+        final ByteArrayDataInput aData = ByteStreams.newDataInput(aFrame);
+        return this.mSubChannels[aData.readByte()].decode(aData);
+    }
+
+    /**
+     * Encodes a packet the same way {@link #encode} does, but into an exactly sized array that can be shared between
+     * all receivers.
+     */
+    private byte[] encodeFrame(GTPacket aPacket) {
+        final ByteBuf tBuf = mEncodeBuffer;
+        tBuf.clear()
+            .writeByte(aPacket.getPacketID());
+        aPacket.encode(tBuf);
+        final byte[] tFrame = new byte[tBuf.readableBytes()];
+        tBuf.readBytes(tFrame);
+        if (tBuf.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+            tBuf.release();
+            mEncodeBuffer = PooledByteBufAllocator.DEFAULT.buffer();
+        }
+        return tFrame;
+    }
+
+    private void enqueueFrame(EntityPlayerMP aPlayer, byte[] aFrame) {
+        mPendingFrames.computeIfAbsent(aPlayer, p -> new ArrayList<>())
+            .add(aFrame);
+    }
+
+    private void sendFrame(EntityPlayerMP aPlayer, byte[] aFrame) {
+        GTMetrics.PACKETS_SENT.increment();
+        GTMetrics.PACKET_BYTES_SENT.add(aFrame.length);
+        final FMLEmbeddedChannel tChannel = this.mChannel.get(Side.SERVER);
+        tChannel.attr(FMLOutboundHandler.FML_MESSAGETARGET)
+            .set(FMLOutboundHandler.OutboundTarget.PLAYER);
+        tChannel.attr(FMLOutboundHandler.FML_MESSAGETARGETARGS)
+            .set(aPlayer);
+        // Already encoded, so this passes through the codec untouched
+        tChannel.writeAndFlush(new FMLProxyPacket(Unpooled.wrappedBuffer(aFrame), mChannelName));
+    }
+
+    // Lowest priority so that anything other handlers send at the end of the tick still goes out with this batch
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public void onServerTick(TickEvent.ServerTickEvent aEvent) {
+        if (aEvent.phase != TickEvent.Phase.END) return;
+        flushPendingFrames();
+    }
+
+    /**
+     * Sends everything queued during this tick, packing the frames of each player into as few batches as possible.
+     */
+    private void flushPendingFrames() {
+        synchronized (mPendingFrames) {
+            if (mPendingFrames.isEmpty()) return;
+
+            final List<EntityPlayerMP> tOnlinePlayers = getOnlinePlayers();
+            for (Map.Entry<EntityPlayerMP, List<byte[]>> tEntry : mPendingFrames.entrySet()) {
+                // The player logged out during this tick
+                if (!tOnlinePlayers.contains(tEntry.getKey())) continue;
+                sendFrames(tEntry.getKey(), tEntry.getValue());
+            }
+
+            mPendingFrames.clear();
+        }
+    }
+
+    /**
+     * Sends everything queued for one player during this tick.
+     */
+    private void flushPendingFrames(EntityPlayerMP aPlayer) {
+        synchronized (mPendingFrames) {
+            final List<byte[]> tFrames = mPendingFrames.remove(aPlayer);
+            if (tFrames != null) sendFrames(aPlayer, tFrames);
+        }
+    }
+
+    private void sendFrames(EntityPlayerMP aPlayer, List<byte[]> aFrames) {
+        int tStart = 0;
+        while (tStart < aFrames.size()) {
+            int tEnd = tStart;
+            int tSize = 0;
+            while (tEnd < aFrames.size()) {
+                final int tFrameSize = GTPacketBatch.getEncodedSize(aFrames.get(tEnd));
+                if (tEnd > tStart && tSize + tFrameSize > MAX_BATCH_SIZE) break;
+                tSize += tFrameSize;
+                tEnd++;
+            }
+
+            if (tEnd - tStart == 1) {
+                sendFrame(aPlayer, aFrames.get(tStart));
+            } else {
+                sendFrame(aPlayer, encodeFrame(new GTPacketBatch(aFrames.subList(tStart, tEnd))));
+            }
+            tStart = tEnd;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<EntityPlayerMP> getOnlinePlayers() {
+        final MinecraftServer tServer = MinecraftServer.getServer();
+        if (tServer == null || tServer.getConfigurationManager() == null) return Collections.emptyList();
+        return tServer.getConfigurationManager().playerEntityList;
     }
 
     @Override
@@ -83,6 +227,7 @@ public class GTNetwork extends MessageToMessageCodec<FMLProxyPacket, GTPacket> i
             GT_FML_LOGGER.info("player null");
             return;
         }
+        flushPendingFrames(aPlayer);
         this.mChannel.get(Side.SERVER)
             .attr(FMLOutboundHandler.FML_MESSAGETARGET)
             .set(FMLOutboundHandler.OutboundTarget.PLAYER);
@@ -93,25 +238,38 @@ public class GTNetwork extends MessageToMessageCodec<FMLProxyPacket, GTPacket> i
             .writeAndFlush(aPacket);
     }
 
+    /**
+     * Queues the packet for every player within range of the point, like {@link #sendPacketToAllPlayersInRange}.
+     */
     @Override
     public void sendToAllAround(GTPacket aPacket, NetworkRegistry.TargetPoint aPosition) {
-        this.mChannel.get(Side.SERVER)
-            .attr(FMLOutboundHandler.FML_MESSAGETARGET)
-            .set(FMLOutboundHandler.OutboundTarget.ALLAROUNDPOINT);
-        this.mChannel.get(Side.SERVER)
-            .attr(FMLOutboundHandler.FML_MESSAGETARGETARGS)
-            .set(aPosition);
-        this.mChannel.get(Side.SERVER)
-            .writeAndFlush(aPacket);
+        synchronized (mPendingFrames) {
+            byte[] tFrame = null;
+            for (EntityPlayerMP tPlayer : getOnlinePlayers()) {
+                if (tPlayer.dimension != aPosition.dimension) continue;
+                final double tX = aPosition.x - tPlayer.posX;
+                final double tY = aPosition.y - tPlayer.posY;
+                final double tZ = aPosition.z - tPlayer.posZ;
+                if (tX * tX + tY * tY + tZ * tZ < aPosition.range * aPosition.range) {
+                    if (tFrame == null) tFrame = encodeFrame(aPacket);
+                    enqueueFrame(tPlayer, tFrame);
+                }
+            }
+        }
     }
 
+    /**
+     * Queues the packet for every player on the server, like {@link #sendPacketToAllPlayersInRange}.
+     */
     @Override
     public void sendToAll(GTPacket aPacket) {
-        this.mChannel.get(Side.SERVER)
-            .attr(FMLOutboundHandler.FML_MESSAGETARGET)
-            .set(FMLOutboundHandler.OutboundTarget.ALL);
-        this.mChannel.get(Side.SERVER)
-            .writeAndFlush(aPacket);
+        synchronized (mPendingFrames) {
+            byte[] tFrame = null;
+            for (EntityPlayerMP tPlayer : getOnlinePlayers()) {
+                if (tFrame == null) tFrame = encodeFrame(aPacket);
+                enqueueFrame(tPlayer, tFrame);
+            }
+        }
     }
 
     @Override
@@ -123,29 +281,46 @@ public class GTNetwork extends MessageToMessageCodec<FMLProxyPacket, GTPacket> i
             .writeAndFlush(aPacket);
     }
 
+    /**
+     * Queues the packet for every player watching the chunk. The packet is encoded once and delivered together with
+     * everything else sent to the same player during this tick.
+     */
     @Override
     public void sendPacketToAllPlayersInRange(World aWorld, GTPacket aPacket, int aX, int aZ) {
-        if (!aWorld.isRemote) {
+        if (aWorld.isRemote || !(aWorld instanceof WorldServer tWorld) || aWorld.playerEntities.isEmpty()) return;
+
+        final PlayerManager tPlayerManager = tWorld.getPlayerManager();
+        final int tChunkX = aX >> 4;
+        final int tChunkZ = aZ >> 4;
+
+        synchronized (mPendingFrames) {
+            byte[] tFrame = null;
             for (Object tObject : aWorld.playerEntities) {
                 if (!(tObject instanceof EntityPlayerMP tPlayer)) {
                     break;
                 }
-                Chunk tChunk = aWorld.getChunkFromBlockCoords(aX, aZ);
-                if (tPlayer.getServerForPlayer()
-                    .getPlayerManager()
-                    .isPlayerWatchingChunk(tPlayer, tChunk.xPosition, tChunk.zPosition)) {
-                    sendToPlayer(aPacket, tPlayer);
+                if (tPlayerManager.isPlayerWatchingChunk(tPlayer, tChunkX, tChunkZ)) {
+                    if (tFrame == null) tFrame = encodeFrame(aPacket);
+                    enqueueFrame(tPlayer, tFrame);
                 }
             }
         }
     }
 
+    /**
+     * Queues the packet for every player in the world. The packet is encoded once and delivered together with
+     * everything else sent to the same player during this tick.
+     */
     @Override
     public void sendToWorld(World world, GTPacket packet) {
-        if (!world.isRemote) {
+        if (world.isRemote || world.playerEntities.isEmpty()) return;
+
+        synchronized (mPendingFrames) {
+            byte[] frame = null;
             for (EntityPlayer player : world.playerEntities) {
                 if (player instanceof EntityPlayerMP mp) {
-                    sendToPlayer(packet, mp);
+                    if (frame == null) frame = encodeFrame(packet);
+                    enqueueFrame(mp, frame);
                 }
             }
         }
@@ -639,6 +639,8 @@ public class GTProxy implements IFuelHandler {
     public boolean mRenderPollutionFog = true;
     /** This enables BaseMetaTileEntity block updates handled by BlockUpdateHandler */
     public boolean mUseBlockUpdateHandler = false;
+    /** This draws the overlays of {@link gregtech.api.interfaces.metatileentity.IDynamicOverlay} machines per frame */
+    public boolean mRenderDynamicOverlays = false;
     /** This makes cover tabs visible on GregTech machines */
     public boolean mCoverTabsVisible = true;
     /** This controls whether cover tabs display on the left (default) or right side of the UI */
@@ -1243,6 +1245,7 @@ public class GTProxy implements IFuelHandler {
     }
 
     public void onServerStopped(FMLServerStoppedEvent event) {
+        GTChunkAssociatedData.flushPendingWrites();
         // spotless:off
         if (wirelessChargerManager != null) {
             FMLCommonHandler.instance().bus().unregister(wirelessChargerManager);
@@ -218,6 +218,10 @@ public class Client {
         @Config.DefaultBoolean(false)
         public boolean useBlockUpdateHandler;
 
+        @Config.Comment("Draws the overlays of basic machines every frame, so starting or stopping them does not re-mesh the chunk. Requires world reload (f3 + a or relog).")
+        @Config.DefaultBoolean(false)
+        public boolean renderDynamicOverlays;
+
         @Config.Comment("Disables coil lighting. Requires world reload (f3 + a or relog).")
         @Config.DefaultBoolean(false)
         @Config.Name("Use Old Coil Textures")
@@ -279,6 +283,10 @@ public class Client {
         @Config.DefaultBoolean(false)
         public boolean NEIOriginalVoltage;
 
+        @Config.Comment("if true, builds the NEI recipe lists of all GT handlers in the background after joining a world, instead of when a handler is first opened.")
+        @Config.DefaultBoolean(false)
+        public boolean NEIPrewarmRecipeCaches;
+
         @Config.LangKey("GT5U.gui.config.client.nei.recipe_categories")
         public static class RecipeCategories {
 
@@ -4,6 +4,7 @@ import com.gtnewhorizon.gtnhlib.config.Config;
 
 import gregtech.api.enums.Mods;
 import gregtech.common.GTProxy;
+import gregtech.common.misc.GTMetricsExporter;
 
 @Config(modid = Mods.ModIDs.GREG_TECH, category = "gregtech", configSubDirectory = "GregTech", filename = "GregTech")
 @Config.LangKey("GT5U.gui.config.gregtech")
@@ -190,6 +191,25 @@ public class Gregtech {
         @Config.RequiresMcRestart
         public boolean multiThreadedSounds;
 
+        @Config.Comment("if true, pollution and underground fluid data is saved deflate-compressed. Older versions cannot read compressed files.")
+        @Config.DefaultBoolean(false)
+        @Config.RequiresMcRestart
+        public boolean compressWorldData;
+
+        @Config.Comment("Seconds between writing GT server metrics (recipe checks, EU, pipe transfers, packets) to gregtech_metrics.prom or .json in the server directory. 0 disables collecting them.")
+        @Config.DefaultInt(0)
+        @Config.RequiresMcRestart
+        public int metricsExportInterval;
+
+        @Config.Comment("Format of the exported metrics: PROMETHEUS text or JSON.")
+        @Config.DefaultEnum("PROMETHEUS")
+        public GTMetricsExporter.Format metricsExportFormat = GTMetricsExporter.Format.PROMETHEUS;
+
+        @Config.Comment("How many times slower conveyor, pump and regulator covers may tick after finding nothing to move. The wait doubles with every idle tick up to this limit. 1 disables backing off.")
+        @Config.DefaultInt(4)
+        @Config.RangeInt(min = 1, max = 64)
+        public int coverIdleBackoffLimit;
+
         @Config.Comment("Max entity amount in the same block for entity craming.")
         @Config.DefaultInt(6)
         @Config.RequiresMcRestart
@@ -394,6 +414,14 @@ public class Gregtech {
         @Config.DefaultInt(0)
         @Config.Name("Scheduler Profiling")
         public int schedulerProfileLevel;
+
+        @Config.Comment({ "Average server tick time in milliseconds over which GT puts off work that can wait:",
+            "idle machines check for recipes less often, formed multiblocks delay structure checks",
+            "and cooperative scheduler tasks get less time. 0 disables it." })
+        @Config.DefaultInt(0)
+        @Config.RangeInt(min = 0, max = 1000)
+        @Config.Name("Tick Budget (ms)")
+        public int tickBudget;
     }
 
     @Config.LangKey("GT5U.gui.config.gregtech.harvest_level")
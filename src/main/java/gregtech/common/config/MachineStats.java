@@ -106,6 +106,19 @@ public class MachineStats {
         @Config.DefaultBoolean(false)
         @Config.RequiresMcRestart
         public boolean forceFreeFace;
+
+        @Config.Comment({ "Number of consecutive recipe checks without a matching recipe after which an idle multiblock",
+            "goes dormant. Dormant multiblocks only look for recipes again when their inputs change, they are",
+            "interacted with, or their backoff runs out. Set to 0 to disable dormancy." })
+        @Config.DefaultInt(0)
+        @Config.RangeInt(min = 0)
+        public int idleChecksBeforeDormant;
+
+        @Config.Comment({ "Maximum number of ticks between the fallback recipe checks of a dormant multiblock.",
+            "The interval starts at 100 ticks and doubles after every unsuccessful check." })
+        @Config.DefaultInt(2400)
+        @Config.RangeInt(min = 100)
+        public int dormantMaxBackoffTicks;
     }
 
     @Config.LangKey("GT5U.gui.config.machine_stats.mass_fabricator")
@@ -44,6 +44,7 @@ import gregtech.api.modularui2.GTGuiThemes;
 import gregtech.api.modularui2.GTGuis;
 import gregtech.api.modularui2.GTModularScreen;
 import gregtech.api.util.GTUtility;
+import gregtech.common.config.Gregtech;
 import gregtech.common.gui.modularui.cover.base.CoverBaseGui;
 import gregtech.common.gui.mui1.cover.CoverUIFactory;
 import gregtech.common.text.ClientTickRateFormatter;
@@ -62,6 +63,8 @@ public class Cover implements IGuiHolder<CoverGuiData> {
     private final ITexture coverFGTexture;
     protected boolean needsUpdate = false;
     protected int tickRateAddition = 0;
+    private int tickPhase = -1;
+    private int idleBackoff = 1;
 
     public Cover(@NotNull CoverContext context, ITexture coverFGTexture) {
         this.coverSide = context.getSide();
@@ -206,6 +209,44 @@ public class Cover implements IGuiHolder<CoverGuiData> {
         return getMinimumTickRate() + tickRateAddition;
     }
 
+    /**
+     * Shifts the server tick by a phase that is stable for the position of this cover, so that covers with the same
+     * tick rate don't all do their things on the same tick. The result is passed to doCoverThings as its timer, which
+     * keeps checks like {@code aTimer % 20 == 0} in line with the ticks the cover actually runs on.
+     */
+    public final long getCoverTimer(long tickCounter) {
+        if (tickPhase < 0) {
+            final ICoverable tile = getTile();
+            if (tile == null) return tickCounter;
+            int hash = tile.getXCoord();
+            hash = 31 * hash + tile.getYCoord();
+            hash = 31 * hash + tile.getZCoord();
+            hash = 31 * hash + coverSide.ordinal();
+            // spread the bits, neighbouring positions otherwise get neighbouring phases
+            tickPhase = (hash * 0x9E3779B9 >>> 8) & 0xFFFF;
+        }
+        return tickCounter + tickPhase;
+    }
+
+    /**
+     * @param coverTimer The timer returned by {@link #getCoverTimer(long)}
+     * @return If doCoverThings should be called on this tick
+     */
+    public final boolean isCoverTick(long coverTimer) {
+        final int tickRate = getTickRate();
+        return tickRate > 0 && coverTimer % ((long) tickRate * idleBackoff) == 0;
+    }
+
+    /**
+     * Lets covers moving things tick less often while there is nothing to move. Each idle tick doubles the wait, up to
+     * the limit set in the config, and any work done resets it.
+     *
+     * @param idle If the cover had nothing to do this time
+     */
+    protected final void setIdle(boolean idle) {
+        idleBackoff = idle ? Math.min(idleBackoff * 2, Math.max(1, Gregtech.general.coverIdleBackoffLimit)) : 1;
+    }
+
     public ForgeDirection getSide() {
         return coverSide;
     }
@@ -469,6 +510,7 @@ public class Cover implements IGuiHolder<CoverGuiData> {
 
     public final void setTickRateAddition(int newValue) {
         tickRateAddition = clamp(newValue);
+        idleBackoff = 1;
     }
 
     private static int clamp(int input) {
@@ -32,7 +32,7 @@ public class CoverConveyor extends CoverIOBase {
     }
 
     @Override
-    protected void doTransfer(ICoverable coverable) {
+    protected boolean doTransfer(ICoverable coverable) {
         GTItemTransfer transfer = new GTItemTransfer();
 
         switch (getIOMode()) {
@@ -47,7 +47,7 @@ public class CoverConveyor extends CoverIOBase {
         transfer.setStacksToTransfer(mMaxStacks);
         transfer.dropItems(coverable, coverSide);
 
-        transfer.transfer();
+        return transfer.transfer() > 0;
     }
 
     @Override
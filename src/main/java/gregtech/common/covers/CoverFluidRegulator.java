@@ -162,8 +162,11 @@ public class CoverFluidRegulator extends Cover {
             }
             if (tTank1 != null && tTank2 != null) {
                 allowFluid = true;
-                GTUtility.moveFluid(tTank1, tTank2, directionFrom, Math.abs(speed), this::canTransferFluid);
+                setIdle(
+                    GTUtility.moveFluid(tTank1, tTank2, directionFrom, Math.abs(speed), this::canTransferFluid) <= 0);
                 allowFluid = false;
+            } else {
+                setIdle(true);
             }
         }
     }
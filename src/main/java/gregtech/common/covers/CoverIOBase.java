@@ -95,10 +95,13 @@ public abstract class CoverIOBase extends CoverLegacyData {
                 return;
             }
         }
-        doTransfer(coverable);
+        setIdle(!doTransfer(coverable));
     }
 
-    protected abstract void doTransfer(ICoverable coverable);
+    /**
+     * @return If anything was moved
+     */
+    protected abstract boolean doTransfer(ICoverable coverable);
 
     @Override
     public void onCoverScrewdriverClick(EntityPlayer aPlayer, float aX, float aY, float aZ) {
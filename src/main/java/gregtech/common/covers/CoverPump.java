@@ -33,21 +33,22 @@ public class CoverPump extends CoverIOBase {
     }
 
     @Override
-    protected void doTransfer(ICoverable coverable) {
+    protected boolean doTransfer(ICoverable coverable) {
         if (coverable instanceof IFluidHandler current) {
             final IFluidHandler toAccess = coverable.getITankContainerAtSide(coverSide);
-            if (toAccess == null) return;
+            if (toAccess == null) return false;
 
-            transferFluid(current, toAccess, coverSide, this.coverData % 2 == 0);
+            return transferFluid(current, toAccess, coverSide, this.coverData % 2 == 0);
         }
+        return false;
     }
 
-    protected void transferFluid(IFluidHandler current, IFluidHandler toAccess, ForgeDirection coverSide,
+    protected boolean transferFluid(IFluidHandler current, IFluidHandler toAccess, ForgeDirection coverSide,
         boolean export) {
         IFluidHandler source = export ? current : toAccess;
         IFluidHandler dest = export ? toAccess : current;
         ForgeDirection drainSide = export ? coverSide : coverSide.getOpposite();
-        GTUtility.moveFluid(source, dest, drainSide, mTransferRate, this::canTransferFluid);
+        return GTUtility.moveFluid(source, dest, drainSide, mTransferRate, this::canTransferFluid) > 0;
     }
 
     protected boolean canTransferFluid(FluidStack fluid) {
@@ -0,0 +1,362 @@
+package gregtech.common.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.block.Block;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.ForgeDirection;
+
+import com.google.common.collect.MapMaker;
+import com.gtnewhorizon.gtnhlib.util.CoordinatePacker;
+
+import gregtech.GTMod;
+import gregtech.api.GregTechAPI;
+import gregtech.api.interfaces.metatileentity.IMetaTileEntity;
+import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
+import gregtech.api.interfaces.tileentity.IMachineBlockUpdateable;
+import gregtech.api.metatileentity.implementations.MTEMultiBlockBase;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import it.unimi.dsi.fastutil.longs.LongLists;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Reference2ReferenceOpenHashMap;
+
+/**
+ * This class indexes the area covered by each multiblock, per world, so that a machine block update only has to look
+ * up the controllers whose area contains it, and can tell them exactly which block changed. Other machines that need to
+ * hear of updates along the machine blocks connected to them, like long distance pipelines, are indexed the same way.
+ * Everything here runs on the server thread, so the world is read directly.
+ * <p />
+ * The area of a machine is made up of the machine blocks connected to it, called members, and the blocks right next to
+ * them. It is scanned once, on the first {@link #update}, and then grows with every machine block that gets attached to
+ * it, so a structure that is still being built keeps being notified as blocks get placed.
+ * Members that are broken stay in the area. Areas are stored in every chunk column their bounding box overlaps, so a
+ * lookup only checks the areas of one chunk.
+ * <p />
+ * The index also remembers the block of every member as of the last structure check. A formed multi whose updates
+ * only touched members that are still the same block can skip its next structure check, see
+ * {@link #isUnchanged(MTEMultiBlockBase, LongCollection)}.
+ */
+public class GTStructureIndex {
+
+    /** Machines connected to more machine blocks than this only have the part closest to them indexed. */
+    public static final int MAX_MEMBERS = 1 << 18;
+
+    private static final int NO_MEMBER = -2;
+    /** Members with a tile entity, e.g. hatches, whose state can change without the block changing. */
+    private static final int TILE_MEMBER = -1;
+    /** Members attached since the last structure check, which hasn't seen them yet. */
+    private static final int NEW_MEMBER = -3;
+
+    private static final Map<World, GTStructureIndex> INDICES = new MapMaker().weakKeys()
+        .makeMap();
+
+    /** {packed chunk x, z: areas overlapping that chunk} */
+    private final Long2ObjectMap<List<Area>> areasByChunk = new Long2ObjectOpenHashMap<>();
+    private final Map<IMetaTileEntity, Area> areasByOwner = new Reference2ReferenceOpenHashMap<>();
+
+    private GTStructureIndex() {}
+
+    /**
+     * Brings the area of the given machine up to date, indexing it if it isn't yet. Multis call this right after each
+     * of their structure checks, so that the member blocks remembered are exactly the ones the check saw.
+     *
+     * @param positions Packed positions of the machine block updates since the previous check, or null if they aren't
+     *                  known
+     */
+    public static void update(IMetaTileEntity owner, @Nullable LongCollection positions) {
+        final IGregTechTileEntity base = owner.getBaseMetaTileEntity();
+        if (base == null || !base.isServerSide()) return;
+
+        final World world = base.getWorld();
+        final GTStructureIndex index = INDICES.computeIfAbsent(world, w -> new GTStructureIndex());
+        synchronized (index) {
+            final Area area = index.areasByOwner.get(owner);
+            // parts of the structure may have been loaded since, which never sends machine block updates
+            if (area == null || area.hasUnloadedParts) {
+                index.remove(owner);
+                index.add(
+                    scan(owner, base.getFrontFacing(), world, base.getXCoord(), base.getYCoord(), base.getZCoord()));
+                return;
+            }
+
+            area.facing = base.getFrontFacing();
+            if (positions == null) {
+                // refreshing replaces values, which doesn't disturb iterating the keys
+                for (long packed : area.members.keySet()) area.refresh(world, packed);
+            } else {
+                for (long packed : positions) area.refresh(world, packed);
+            }
+        }
+    }
+
+    /**
+     * Indexes the given machine if it isn't yet, for machines that only need to hear of updates to the machine blocks
+     * connected to them and don't compare member blocks.
+     */
+    public static void update(IMetaTileEntity owner) {
+        update(owner, LongLists.EMPTY_LIST);
+    }
+
+    public static void remove(IMetaTileEntity owner) {
+        final IGregTechTileEntity base = owner.getBaseMetaTileEntity();
+        if (base == null) return;
+
+        final GTStructureIndex index = INDICES.get(base.getWorld());
+        if (index == null) return;
+
+        synchronized (index) {
+            index.remove(owner);
+        }
+    }
+
+    /**
+     * Notifies all machines whose area contains the given position of an update there, after attaching the block there
+     * to their areas if it is a new machine block.
+     *
+     * @return The notified machines
+     */
+    public static List<IMetaTileEntity> notifyContaining(World world, int x, int y, int z) {
+        final GTStructureIndex index = INDICES.get(world);
+        if (index == null) return Collections.emptyList();
+
+        final List<IMetaTileEntity> owners = new ArrayList<>();
+        synchronized (index) {
+            final List<Area> areas = index.areasByChunk.get(ChunkCoordIntPair.chunkXZ2Int(x >> 4, z >> 4));
+            if (areas == null) return Collections.emptyList();
+
+            final List<Area> containing = new ArrayList<>();
+            for (Area area : areas) {
+                if (area.contains(x, y, z)) containing.add(area);
+            }
+            // growing an area can add it to the chunk list iterated above, so only grow them now
+            for (Area area : containing) {
+                index.attach(area, world, x, y, z);
+                owners.add(area.owner);
+            }
+        }
+
+        for (IMetaTileEntity owner : owners) {
+            final IGregTechTileEntity base = owner.getBaseMetaTileEntity();
+            if (base == null) continue;
+            if (owner instanceof MTEMultiBlockBase multi) multi.onStructureBlockUpdate(x, y, z);
+            base.onMachineBlockUpdate();
+        }
+        return owners;
+    }
+
+    /**
+     * @param positions Packed positions of machine block updates
+     * @return Whether all the positions are members of the multi's area whose block is the same as in its last
+     *         structure check, and the controller still faces the same way. Members with a tile entity never count as
+     *         unchanged.
+     */
+    public static boolean isUnchanged(MTEMultiBlockBase multi, LongCollection positions) {
+        final IGregTechTileEntity base = multi.getBaseMetaTileEntity();
+        if (base == null) return false;
+
+        final World world = base.getWorld();
+        final GTStructureIndex index = INDICES.get(world);
+        if (index == null) return false;
+
+        synchronized (index) {
+            final Area area = index.areasByOwner.get(multi);
+            if (area == null || area.facing != base.getFrontFacing()) return false;
+
+            for (long packed : positions) {
+                final int state = area.members.get(packed);
+                if (state == NO_MEMBER || state == TILE_MEMBER || state == NEW_MEMBER) return false;
+
+                final int x = CoordinatePacker.unpackX(packed);
+                final int y = CoordinatePacker.unpackY(packed);
+                final int z = CoordinatePacker.unpackZ(packed);
+                if (!world.blockExists(x, y, z) || getState(world, x, y, z) != state) return false;
+            }
+        }
+        return true;
+    }
+
+    private static int getState(World world, int x, int y, int z) {
+        if (world.getTileEntity(x, y, z) != null) return TILE_MEMBER;
+        return Block.getIdFromBlock(world.getBlock(x, y, z)) << 4 | world.getBlockMetadata(x, y, z);
+    }
+
+    /**
+     * @return Whether machine block updates pass through the block, i.e. whether it connects a structure
+     */
+    private static boolean isMemberBlock(World world, int x, int y, int z) {
+        final TileEntity tileEntity = world.getTileEntity(x, y, z);
+        if (tileEntity instanceof IMachineBlockUpdateable listener && listener.isMachineBlockUpdateRecursive()) {
+            return true;
+        }
+        return GregTechAPI.isMachineBlock(world.getBlock(x, y, z), world.getBlockMetadata(x, y, z));
+    }
+
+    /**
+     * Walks the machine blocks connected to the machine, without loading chunks.
+     */
+    private static Area scan(IMetaTileEntity owner, ForgeDirection facing, World world, int x, int y, int z) {
+        final long start = CoordinatePacker.pack(x, y, z);
+        final Area area = new Area(owner, facing, x, y, z);
+        area.members.put(start, getState(world, x, y, z));
+        area.walk(world, start);
+        return area;
+    }
+
+    /**
+     * Adds the block at the given position to the area if it is a machine block attached to it, together with the
+     * machine blocks connected through it.
+     */
+    private void attach(Area area, World world, int x, int y, int z) {
+        final long packed = CoordinatePacker.pack(x, y, z);
+        if (area.members.containsKey(packed) || !isMemberBlock(world, x, y, z)) return;
+
+        final int minChunkX = area.minX >> 4, minChunkZ = area.minZ >> 4;
+        final int maxChunkX = area.maxX >> 4, maxChunkZ = area.maxZ >> 4;
+        area.members.put(packed, NEW_MEMBER);
+        area.include(x, y, z);
+        area.walk(world, packed);
+
+        // areas only grow, so it is still in the lists of all chunks it overlapped before
+        for (int chunkX = area.minX >> 4; chunkX <= area.maxX >> 4; chunkX++) {
+            for (int chunkZ = area.minZ >> 4; chunkZ <= area.maxZ >> 4; chunkZ++) {
+                if (chunkX >= minChunkX && chunkX <= maxChunkX && chunkZ >= minChunkZ && chunkZ <= maxChunkZ) continue;
+                areasByChunk.computeIfAbsent(ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ), k -> new ArrayList<>())
+                    .add(area);
+            }
+        }
+    }
+
+    private void add(Area area) {
+        areasByOwner.put(area.owner, area);
+        for (int chunkX = area.minX >> 4; chunkX <= area.maxX >> 4; chunkX++) {
+            for (int chunkZ = area.minZ >> 4; chunkZ <= area.maxZ >> 4; chunkZ++) {
+                areasByChunk.computeIfAbsent(ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ), k -> new ArrayList<>())
+                    .add(area);
+            }
+        }
+    }
+
+    private void remove(IMetaTileEntity owner) {
+        final Area area = areasByOwner.remove(owner);
+        if (area == null) return;
+
+        for (int chunkX = area.minX >> 4; chunkX <= area.maxX >> 4; chunkX++) {
+            for (int chunkZ = area.minZ >> 4; chunkZ <= area.maxZ >> 4; chunkZ++) {
+                final long key = ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ);
+                final List<Area> areas = areasByChunk.get(key);
+                if (areas == null) continue;
+                areas.remove(area);
+                if (areas.isEmpty()) areasByChunk.remove(key);
+            }
+        }
+    }
+
+    private static final class Area {
+
+        private final IMetaTileEntity owner;
+        private ForgeDirection facing;
+        /** {packed x,y,z: block id << 4 | meta, TILE_MEMBER or NEW_MEMBER} */
+        private final Long2IntOpenHashMap members = new Long2IntOpenHashMap();
+        /** Bounding box of the members, grown by one block on each side */
+        private int minX, minY, minZ, maxX, maxY, maxZ;
+        /** Whether some blocks next to members were in unloaded chunks when they were walked */
+        private boolean hasUnloadedParts;
+        /** Whether members were left out because there were too many */
+        private boolean truncated;
+
+        private Area(IMetaTileEntity owner, ForgeDirection facing, int x, int y, int z) {
+            this.owner = owner;
+            this.facing = facing;
+            members.defaultReturnValue(NO_MEMBER);
+            minX = maxX = x;
+            minY = maxY = y;
+            minZ = maxZ = z;
+            include(x, y, z);
+        }
+
+        private void include(int x, int y, int z) {
+            minX = Math.min(minX, x - 1);
+            minY = Math.min(minY, y - 1);
+            minZ = Math.min(minZ, z - 1);
+            maxX = Math.max(maxX, x + 1);
+            maxY = Math.max(maxY, y + 1);
+            maxZ = Math.max(maxZ, z + 1);
+        }
+
+        /**
+         * Adds the machine blocks connected to the given member that aren't members yet, with their current blocks.
+         */
+        private void walk(World world, long from) {
+            final LongSet visited = new LongOpenHashSet();
+            final LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+            visited.add(from);
+            queue.enqueue(from);
+
+            while (!queue.isEmpty()) {
+                final long packed = queue.dequeueLong();
+                final int posX = CoordinatePacker.unpackX(packed);
+                final int posY = CoordinatePacker.unpackY(packed);
+                final int posZ = CoordinatePacker.unpackZ(packed);
+
+                for (ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+                    final int x = posX + side.offsetX, y = posY + side.offsetY, z = posZ + side.offsetZ;
+                    final long next = CoordinatePacker.pack(x, y, z);
+                    if (!visited.add(next) || members.containsKey(next)) continue;
+                    // don't load chunks just to find out how far a structure goes
+                    if (!world.blockExists(x, y, z)) {
+                        hasUnloadedParts = true;
+                        continue;
+                    }
+                    if (!isMemberBlock(world, x, y, z)) continue;
+                    if (members.size() >= MAX_MEMBERS) {
+                        if (!truncated) GTMod.GT_FML_LOGGER.warn(
+                            "Structure of {} at {}, {}, {} is too large to index",
+                            owner.getLocalName(),
+                            x,
+                            y,
+                            z);
+                        truncated = true;
+                        return;
+                    }
+
+                    members.put(next, getState(world, x, y, z));
+                    include(x, y, z);
+                    queue.enqueue(next);
+                }
+            }
+        }
+
+        /**
+         * Remembers the current block of the member at the given position.
+         */
+        private void refresh(World world, long packed) {
+            if (!members.containsKey(packed)) return;
+            final int x = CoordinatePacker.unpackX(packed);
+            final int y = CoordinatePacker.unpackY(packed);
+            final int z = CoordinatePacker.unpackZ(packed);
+            members.put(packed, world.blockExists(x, y, z) ? getState(world, x, y, z) : NEW_MEMBER);
+        }
+
+        private boolean contains(int x, int y, int z) {
+            if (x < minX || x > maxX || y < minY || y > maxY || z < minZ || z > maxZ) return false;
+            if (members.containsKey(CoordinatePacker.pack(x, y, z))) return true;
+            for (ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+                if (members.containsKey(CoordinatePacker.pack(x + side.offsetX, y + side.offsetY, z + side.offsetZ)))
+                    return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package gregtech.common.data;
+
+import java.util.Map;
+
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.World;
+
+import com.google.common.collect.MapMaker;
+import com.gtnewhorizon.gtnhlib.eventbus.EventBusSubscriber;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.relauncher.Side;
+import gregtech.api.enums.GTValues;
+import gregtech.api.net.GTPacketTileEntityDelta;
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+/**
+ * Collects the client data changes of GT tile entities during a tick and sends them as one
+ * {@link GTPacketTileEntityDelta} per chunk, only to the players watching that chunk.
+ */
+@EventBusSubscriber
+public class GTTileDeltaTracker {
+
+    private static final Map<World, GTTileDeltaTracker> TRACKERS = new MapMaker().weakKeys()
+        .makeMap();
+
+    private final Long2ObjectMap<ChunkDeltas> chunks = new Long2ObjectOpenHashMap<>();
+
+    public GTTileDeltaTracker() {}
+
+    /**
+     * Queues the changed fields of a tile entity.
+     *
+     * @param changedMask Bit {@code i} is set if the field sent with client event {@code i} changed, see
+     *                    {@link gregtech.api.metatileentity.GregTechTileClientEvents}
+     */
+    public static void enqueue(World world, int xCoord, int yCoord, int zCoord, int changedMask, byte commonData,
+        byte customData, byte color, byte redstone) {
+        if (changedMask == 0) return;
+
+        final GTTileDeltaTracker tracker = TRACKERS.computeIfAbsent(world, w -> new GTTileDeltaTracker());
+        final int chunkX = xCoord >> 4;
+        final int chunkZ = zCoord >> 4;
+
+        ChunkDeltas deltas = tracker.chunks.get(ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ));
+        if (deltas == null) {
+            deltas = new ChunkDeltas(chunkX, chunkZ);
+            tracker.chunks.put(ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ), deltas);
+        }
+
+        deltas.count++;
+        deltas.data.add((byte) yCoord);
+        deltas.data.add((byte) (((xCoord & 15) << 4) | (zCoord & 15)));
+        deltas.data.add((byte) changedMask);
+        if ((changedMask & GTPacketTileEntityDelta.COMMON_DATA) != 0) deltas.data.add(commonData);
+        if ((changedMask & GTPacketTileEntityDelta.CUSTOM_DATA) != 0) deltas.data.add(customData);
+        if ((changedMask & GTPacketTileEntityDelta.COLOR) != 0) deltas.data.add(color);
+        if ((changedMask & GTPacketTileEntityDelta.REDSTONE_OUTPUT) != 0) deltas.data.add(redstone);
+    }
+
+    @SubscribeEvent
+    public static void onTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) return;
+        if (event.side != Side.SERVER) return;
+
+        TRACKERS.forEach((world, tracker) -> {
+            if (tracker.chunks.isEmpty()) return;
+
+            for (ChunkDeltas deltas : tracker.chunks.values()) {
+                GTValues.NW.sendPacketToAllPlayersInRange(
+                    world,
+                    new GTPacketTileEntityDelta(
+                        world.provider.dimensionId,
+                        deltas.chunkX,
+                        deltas.chunkZ,
+                        deltas.count,
+                        deltas.data.toByteArray()),
+                    deltas.chunkX << 4,
+                    deltas.chunkZ << 4);
+            }
+
+            tracker.chunks.clear();
+        });
+    }
+
+    private static final class ChunkDeltas {
+
+        private final int chunkX, chunkZ;
+        private final ByteArrayList data = new ByteArrayList();
+        private int count;
+
+        private ChunkDeltas(int chunkX, int chunkZ) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+    }
+}
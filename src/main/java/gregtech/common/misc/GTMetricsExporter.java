@@ -0,0 +1,101 @@
+package gregtech.common.misc;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import net.minecraft.server.MinecraftServer;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.gtnewhorizon.gtnhlib.eventbus.EventBusSubscriber;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import gregtech.GTMod;
+import gregtech.api.metrics.GTMetrics;
+import gregtech.common.config.Gregtech;
+
+/**
+ * Periodically writes the {@link GTMetrics} to a file in the server directory, in the Prometheus text format (to be
+ * picked up by e.g. the node exporter textfile collector) or as JSON.
+ */
+@EventBusSubscriber
+public class GTMetricsExporter {
+
+    public enum Format {
+        PROMETHEUS,
+        JSON
+    }
+
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(
+        new ThreadFactoryBuilder().setNameFormat("GT Metrics Writer")
+            .setDaemon(true)
+            .build());
+
+    private static long lastExport;
+
+    static {
+        GTMetrics.gauge(
+            "gt_server_tick_time_microseconds",
+            "Mean server tick time over the last 100 ticks",
+            GTMetricsExporter::getMeanTickTime);
+    }
+
+    @SubscribeEvent
+    public static void onTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) return;
+
+        final int interval = Gregtech.general.metricsExportInterval;
+        if (interval <= 0) return;
+
+        final long now = System.currentTimeMillis();
+        if (now - lastExport < TimeUnit.SECONDS.toMillis(interval)) return;
+        lastExport = now;
+
+        final MinecraftServer server = MinecraftServer.getServer();
+        if (server == null) return;
+
+        // gauges may read game state, so sample on the server thread and only write in the background
+        final List<GTMetrics.Sample> samples = GTMetrics.sample();
+        final boolean json = Gregtech.general.metricsExportFormat == Format.JSON;
+        final File file = server.getFile(json ? "gregtech_metrics.json" : "gregtech_metrics.prom");
+        WRITER.execute(() -> write(file, json ? GTMetrics.toJson(samples, now) : GTMetrics.toPrometheusText(samples)));
+    }
+
+    private static void write(File file, String content) {
+        // write next to the target and move it in place, so that readers never see a partial file
+        final File tmp = new File(file.getPath() + ".tmp");
+        try {
+            Files.write(tmp.toPath(), content.getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(
+                    tmp.toPath(),
+                    file.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            GTMod.GT_FML_LOGGER.warn("Failed to write metrics to {}", file, e);
+        }
+    }
+
+    private static long getMeanTickTime() {
+        final MinecraftServer server = MinecraftServer.getServer();
+        if (server == null) return 0;
+
+        long sum = 0;
+        for (long tickTime : server.tickTimeArray) {
+            sum += tickTime;
+        }
+        return sum / server.tickTimeArray.length / 1000;
+    }
+}
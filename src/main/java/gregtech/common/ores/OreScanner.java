@@ -0,0 +1,207 @@
+package gregtech.common.ores;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongConsumer;
+
+import net.minecraft.block.Block;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import net.minecraftforge.oredict.OreDictionary;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.gtnewhorizon.gtnhlib.util.CoordinatePacker;
+
+import gregtech.GTMod;
+import gregtech.api.util.OptionalBoolean;
+import it.unimi.dsi.fastutil.ints.Int2BooleanMap;
+import it.unimi.dsi.fastutil.ints.Int2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+
+/**
+ * Finds the ore blocks of an area on a worker thread, so that drills covering many chunks don't read every block of a
+ * new layer on the server thread.
+ * <p>
+ * A scan works on the chunk sections grabbed when it was started and streams the positions it finds back section by
+ * section. The sections are read while the world keeps ticking, so a position may be out of date by the time it is
+ * drained: callers must check the block again before mining it.
+ */
+public final class OreScanner {
+
+    private static final ExecutorService WORKERS = Executors.newFixedThreadPool(
+        Math.max(
+            1,
+            Math.min(
+                4,
+                Runtime.getRuntime()
+                    .availableProcessors() / 2)),
+        new ThreadFactoryBuilder().setNameFormat("GT Ore Scanner %d")
+            .setDaemon(true)
+            .build());
+
+    private OreScanner() {}
+
+    /**
+     * Starts scanning the given box for ores. Must be called on the server thread, as it loads the chunks of the box
+     * like reading their blocks would.
+     *
+     * @return The scan to drain the found positions from, packed with {@link CoordinatePacker}
+     */
+    public static Scan scan(World world, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        final List<Column> columns = new ArrayList<>();
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                final ExtendedBlockStorage[] sections = world.getChunkFromChunkCoords(chunkX, chunkZ)
+                    .getBlockStorageArray();
+                columns.add(new Column(chunkX, chunkZ, sections.clone()));
+            }
+        }
+
+        final Scan scan = new Scan(
+            columns,
+            minX,
+            Math.max(minY, 0),
+            minZ,
+            maxX,
+            Math.min(maxY, world.getHeight() - 1),
+            maxZ);
+        WORKERS.execute(scan::run);
+        return scan;
+    }
+
+    public static final class Scan {
+
+        private final List<Column> columns;
+        private final int minX, minY, minZ, maxX, maxY, maxZ;
+        private final ConcurrentLinkedQueue<long[]> found = new ConcurrentLinkedQueue<>();
+        private volatile boolean done;
+        private volatile boolean cancelled;
+
+        private Scan(List<Column> columns, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+            this.columns = columns;
+            this.minX = minX;
+            this.minY = minY;
+            this.minZ = minZ;
+            this.maxX = maxX;
+            this.maxY = maxY;
+            this.maxZ = maxZ;
+        }
+
+        /**
+         * Passes the positions found since the last call to the consumer.
+         *
+         * @return true if the whole area has been scanned and all of its positions were drained
+         */
+        public boolean drain(LongConsumer consumer) {
+            // read before draining, so that nothing published before the scan completed can be missed
+            final boolean wasDone = done;
+            long[] positions;
+            while ((positions = found.poll()) != null) {
+                for (long pos : positions) {
+                    consumer.accept(pos);
+                }
+            }
+            return wasDone;
+        }
+
+        /**
+         * Stops the scan at the next section. Positions that were already found can still be drained.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void run() {
+            final Reference2ObjectMap<Block, Int2BooleanMap> oreCache = new Reference2ObjectOpenHashMap<>();
+            final LongArrayList positions = new LongArrayList();
+
+            try {
+                for (Column column : columns) {
+                    final int startX = Math.max(minX, column.chunkX << 4);
+                    final int endX = Math.min(maxX, (column.chunkX << 4) + 15);
+                    final int startZ = Math.max(minZ, column.chunkZ << 4);
+                    final int endZ = Math.min(maxZ, (column.chunkZ << 4) + 15);
+
+                    for (int sectionY = minY >> 4; sectionY <= maxY >> 4; sectionY++) {
+                        if (cancelled) return;
+
+                        final ExtendedBlockStorage section = column.sections[sectionY];
+                        if (section == null || section.isEmpty()) continue;
+
+                        final int startY = Math.max(minY, sectionY << 4);
+                        final int endY = Math.min(maxY, (sectionY << 4) + 15);
+                        for (int x = startX; x <= endX; x++) {
+                            for (int z = startZ; z <= endZ; z++) {
+                                for (int y = startY; y <= endY; y++) {
+                                    final Block block = section.getBlockByExtId(x & 15, y & 15, z & 15);
+                                    final int meta = section.getExtBlockMetadata(x & 15, y & 15, z & 15);
+                                    if (isOre(oreCache, block, meta)) positions.add(CoordinatePacker.pack(x, y, z));
+                                }
+                            }
+                        }
+
+                        if (!positions.isEmpty()) {
+                            found.add(positions.toLongArray());
+                            positions.clear();
+                        }
+                    }
+                }
+            } catch (Throwable t) {
+                GTMod.GT_FML_LOGGER.error("Ore scan failed", t);
+            } finally {
+                done = true;
+            }
+        }
+    }
+
+    private static boolean isOre(Reference2ObjectMap<Block, Int2BooleanMap> oreCache, Block block, int meta) {
+        Int2BooleanMap metas = oreCache.get(block);
+        if (metas == null) {
+            metas = new Int2BooleanOpenHashMap();
+            oreCache.put(block, metas);
+        }
+
+        if (metas.containsKey(meta)) return metas.get(meta);
+
+        final boolean isOre = computeIsOre(block, meta);
+        metas.put(meta, isOre);
+        return isOre;
+    }
+
+    /**
+     * Same as {@link gregtech.api.util.GTUtility#isOre(Block, int)}, without its ore dictionary cache which may only be
+     * used on the server thread.
+     */
+    private static boolean computeIsOre(Block block, int meta) {
+        final OptionalBoolean isOre = OreManager.isOre(block, meta);
+        if (isOre != OptionalBoolean.NONE) return isOre.getAsBoolean();
+
+        final Item item = Item.getItemFromBlock(block);
+        if (item == null) return false;
+
+        for (int id : OreDictionary.getOreIDs(new ItemStack(item, 1, meta))) {
+            if (OreDictionary.getOreName(id)
+                .startsWith("ore")) return true;
+        }
+        return false;
+    }
+
+    private static final class Column {
+
+        private final int chunkX, chunkZ;
+        private final ExtendedBlockStorage[] sections;
+
+        private Column(int chunkX, int chunkZ, ExtendedBlockStorage[] sections) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            this.sections = sections;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import static gregtech.api.objects.XSTR.XSTR_INSTANCE;
 
 import java.io.DataInput;
 import java.io.DataOutput;
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -44,6 +45,7 @@ import gregtech.api.interfaces.ICleanroomReceiver;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.net.GTPacketPollution;
 import gregtech.api.util.GTChunkAssociatedData;
+import gregtech.api.util.GTLog;
 import gregtech.api.util.GTUtility;
 
 // TODO this whole thing should be reworked,
@@ -75,7 +77,7 @@ public class Pollution {
      */
     // chunks left to process in this cycle
     private List<ChunkCoordIntPair> pollutionList = new ArrayList<>();
-    // a global list of all chunks with positive pollution
+    // a global list of all chunks with positive pollution, persisted as an index so that regions load lazily
     private final Set<ChunkCoordIntPair> pollutedChunks = new HashSet<>();
     private int operationsPerTick = 0; // how much chunks should be processed in each cycle
     private static final short cycleLen = 1200;
@@ -255,6 +257,8 @@ public class Pollution {
             }
             // Write new pollution to Hashmap !!!
             setChunkPollution(actualPos, tPollution);
+            // the index may list chunks whose pollution was gone already
+            if (tPollution <= 0) pollutedChunks.remove(actualPos);
 
             // Send new value to players nearby
             if (tPollution > POLLUTIONPACKET_MINVALUE) {
@@ -425,8 +429,15 @@ public class Pollution {
 
     public static boolean hasPollution(Chunk ch) {
         if (!GTMod.proxy.mPollution) return false;
-        return STORAGE.isCreated(ch.worldObj, ch.getChunkCoordIntPair()) && STORAGE.get(ch)
-            .getAmount() > 0;
+        return isPolluted(ch.worldObj, ch.getChunkCoordIntPair());
+    }
+
+    /**
+     * Checks the polluted chunk index, without loading the region of the chunk.
+     */
+    private static boolean isPolluted(World world, ChunkCoordIntPair coord) {
+        Pollution pollution = GTMod.proxy.dimensionWisePollution.get(world.provider.dimensionId);
+        return pollution != null && pollution.pollutedChunks.contains(coord);
     }
 
     public static void migrate(ChunkDataEvent.Load e) {
@@ -442,7 +453,7 @@ public class Pollution {
         public void chunkWatch(ChunkWatchEvent.Watch event) {
             if (!GTMod.proxy.mPollution) return;
             World world = event.player.worldObj;
-            if (STORAGE.isCreated(world, event.chunk)) {
+            if (isPolluted(world, event.chunk)) {
                 int pollution = STORAGE.get(world, event.chunk)
                     .getAmount();
                 if (pollution > POLLUTIONPACKET_MINVALUE)
@@ -452,8 +463,14 @@ public class Pollution {
 
         @SubscribeEvent
         public void onWorldLoad(WorldEvent.Load e) {
-            // super class loads everything lazily. We force it to load them all.
-            if (!e.world.isRemote) STORAGE.loadAll(e.world);
+            if (e.world.isRemote) return;
+            // super class loads everything lazily. Only worlds saved before the index existed need to load them all.
+            if (!STORAGE.loadIndex(e.world)) STORAGE.loadAll(e.world);
+        }
+
+        @SubscribeEvent
+        public void onWorldSave(WorldEvent.Save e) {
+            if (!e.world.isRemote) STORAGE.saveIndex(e.world);
         }
 
         @SubscribeEvent
@@ -495,8 +512,48 @@ public class Pollution {
             super.loadAll(w);
         }
 
-        public boolean isCreated(World world, ChunkCoordIntPair coord) {
-            return isCreated(world.provider.dimensionId, coord.chunkXPos, coord.chunkZPos);
+        private File getIndexFile(World world) {
+            return new File(getSaveDirectory(world), mId + ".index.dat");
+        }
+
+        /**
+         * @return false if there is no index for this world
+         */
+        private boolean loadIndex(World world) {
+            Set<ChunkCoordIntPair> chunks = getPollutionManager(world).pollutedChunks;
+            try {
+                return loadAuxiliary(getIndexFile(world), input -> {
+                    if (input.readByte() != 0) throw new IOException("Unknown pollution index version");
+                    int count = input.readInt();
+                    for (int i = 0; i < count; i++) {
+                        chunks.add(new ChunkCoordIntPair(input.readInt(), input.readInt()));
+                    }
+                });
+            } catch (IOException | RuntimeException e) {
+                GTLog.err.println("Pollution index broken for world " + world.provider.dimensionId);
+                e.printStackTrace(GTLog.err);
+                chunks.clear();
+                return false;
+            }
+        }
+
+        private void saveIndex(World world) {
+            Pollution pollution = GTMod.proxy.dimensionWisePollution.get(world.provider.dimensionId);
+            if (pollution == null) return;
+            Set<ChunkCoordIntPair> chunks = pollution.pollutedChunks;
+            try {
+                saveAuxiliary(getIndexFile(world), output -> {
+                    output.writeByte(0);
+                    output.writeInt(chunks.size());
+                    for (ChunkCoordIntPair chunk : chunks) {
+                        output.writeInt(chunk.chunkXPos);
+                        output.writeInt(chunk.chunkZPos);
+                    }
+                });
+            } catch (IOException e) {
+                GTLog.err.println("Error saving pollution index for world " + world.provider.dimensionId);
+                e.printStackTrace(GTLog.err);
+            }
         }
     }
 
@@ -0,0 +1,202 @@
+package gregtech.common.powergoggles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.LinkedList;
+
+/**
+ * The energy history of one LSC or wireless network, shared by everyone watching it. Samples are taken every
+ * {@link PowerGogglesConstants#TICKS_BETWEEN_MEASUREMENTS} ticks for the last hour, and downsampled to one per minute
+ * for the last day and one per hour for the last month.
+ */
+public class EnergyTimeSeries {
+
+    public static final int SAMPLES_PER_MINUTE = PowerGogglesConstants.MINUTES
+        / PowerGogglesConstants.TICKS_BETWEEN_MEASUREMENTS;
+    public static final int MINUTE_SAMPLES = 24 * 60;
+    public static final int HOUR_SAMPLES = 30 * 24;
+
+    private final boolean isWireless;
+    private final Tier samples = new Tier(PowerGogglesConstants.STORED_MEASUREMENTS);
+    private final Tier minutes = new Tier(MINUTE_SAMPLES);
+    private final Tier hours = new Tier(HOUR_SAMPLES);
+    /** Samples taken since the last one kept in the minute tier */
+    private int sincePerMinute;
+    /** Minute samples taken since the last one kept in the hour tier */
+    private int sincePerHour;
+    private long lastSampleTick = -1;
+
+    public EnergyTimeSeries(boolean isWireless) {
+        this.isWireless = isWireless;
+    }
+
+    public boolean isWireless() {
+        return isWireless;
+    }
+
+    /**
+     * @return The world time of the last sample, or -1 if there is none
+     */
+    public long getLastSampleTick() {
+        return lastSampleTick;
+    }
+
+    public void add(long worldTime, BigInteger energy, long capacity) {
+        lastSampleTick = worldTime;
+        samples.add(energy, capacity);
+        if (++sincePerMinute < SAMPLES_PER_MINUTE) return;
+        sincePerMinute = 0;
+        minutes.add(energy, capacity);
+        if (++sincePerHour < 60) return;
+        sincePerHour = 0;
+        hours.add(energy, capacity);
+    }
+
+    /**
+     * @return Samples every {@link PowerGogglesConstants#TICKS_BETWEEN_MEASUREMENTS} ticks
+     */
+    public Tier getSamples() {
+        return samples;
+    }
+
+    /**
+     * @return One sample per minute
+     */
+    public Tier getMinutes() {
+        return minutes;
+    }
+
+    /**
+     * @return One sample per hour
+     */
+    public Tier getHours() {
+        return hours;
+    }
+
+    public byte[] toBytes() {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeBoolean(isWireless);
+            out.writeLong(lastSampleTick);
+            out.writeInt(sincePerMinute);
+            out.writeInt(sincePerHour);
+            samples.write(out);
+            minutes.write(out);
+            hours.write(out);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static EnergyTimeSeries fromBytes(byte[] bytes) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            final EnergyTimeSeries series = new EnergyTimeSeries(in.readBoolean());
+            series.lastSampleTick = in.readLong();
+            series.sincePerMinute = in.readInt();
+            series.sincePerHour = in.readInt();
+            series.samples.read(in);
+            series.minutes.read(in);
+            series.hours.read(in);
+            return series;
+        }
+    }
+
+    /**
+     * A fixed size ring buffer of samples, dropping the oldest one when full. Energy is kept in a primitive array, and
+     * only the rare values that don't fit in a long are kept as {@link BigInteger}.
+     */
+    public static class Tier {
+
+        private final long[] energy;
+        private final long[] capacity;
+        private BigInteger[] largeEnergy;
+        private int start;
+        private int size;
+
+        private Tier(int length) {
+            energy = new long[length];
+            capacity = new long[length];
+        }
+
+        private void add(BigInteger value, long capacity) {
+            final int index;
+            if (size < energy.length) {
+                index = (start + size++) % energy.length;
+            } else {
+                index = start;
+                start = (start + 1) % energy.length;
+            }
+
+            if (value.bitLength() < Long.SIZE) {
+                energy[index] = value.longValue();
+                if (largeEnergy != null) largeEnergy[index] = null;
+            } else {
+                if (largeEnergy == null) largeEnergy = new BigInteger[energy.length];
+                largeEnergy[index] = value;
+            }
+            this.capacity[index] = capacity;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * @param i 0 for the oldest sample
+         */
+        public BigInteger getEnergy(int i) {
+            final int index = index(i);
+            if (largeEnergy != null && largeEnergy[index] != null) return largeEnergy[index];
+            return BigInteger.valueOf(energy[index]);
+        }
+
+        /**
+         * @param i 0 for the oldest sample
+         */
+        public long getCapacity(int i) {
+            return capacity[index(i)];
+        }
+
+        private int index(int i) {
+            if (i < 0 || i >= size) throw new IndexOutOfBoundsException("Index: " + i + ", size: " + size);
+            return (start + i) % energy.length;
+        }
+
+        /**
+         * @return The samples, oldest first, in the form sent to the goggles
+         */
+        public LinkedList<PowerGogglesMeasurement> toMeasurements(boolean isWireless) {
+            final LinkedList<PowerGogglesMeasurement> measurements = new LinkedList<>();
+            for (int i = 0; i < size; i++) {
+                measurements.add(
+                    isWireless ? new PowerGogglesMeasurement(true, getEnergy(i))
+                        : new PowerGogglesMeasurement(false, getEnergy(i), getCapacity(i)));
+            }
+            return measurements;
+        }
+
+        private void write(DataOutputStream out) throws IOException {
+            out.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                final byte[] value = getEnergy(i).toByteArray();
+                out.writeShort(value.length);
+                out.write(value);
+                out.writeLong(getCapacity(i));
+            }
+        }
+
+        private void read(DataInputStream in) throws IOException {
+            final int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                final byte[] value = new byte[in.readUnsignedShort()];
+                in.readFully(value);
+                add(new BigInteger(value), in.readLong());
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package gregtech.common.powergoggles;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.server.MinecraftServer;
+
+import com.gtnewhorizon.gtnhlib.util.CoordinatePacker;
+
+import appeng.api.util.DimensionalCoord;
+import gregtech.GTMod;
+import gregtech.common.misc.WirelessNetworkManager;
+import gregtech.common.misc.spaceprojects.SpaceProjectManager;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import kekztech.common.tileentities.MTELapotronicSuperCapacitor;
+
+/**
+ * Server side energy history of every LSC and wireless network someone watches, so that players watching the same one
+ * share its samples instead of each measuring and storing it.
+ */
+public class EnergyTimeSeriesStore {
+
+    private static final EnergyTimeSeriesStore INSTANCE = new EnergyTimeSeriesStore();
+
+    /** Series that weren't sampled for this long are dropped when saving */
+    private static final long EXPIRY_TICKS = 7L * 24 * PowerGogglesConstants.HOURS;
+
+    /** LSC series by dimension and packed position */
+    private final Int2ObjectMap<Long2ObjectMap<EnergyTimeSeries>> lscSeries = new Int2ObjectOpenHashMap<>();
+    /** Wireless series by team leader */
+    private final Map<UUID, EnergyTimeSeries> wirelessSeries = new HashMap<>();
+
+    private EnergyTimeSeriesStore() {}
+
+    public static EnergyTimeSeriesStore getInstance() {
+        return INSTANCE;
+    }
+
+    public EnergyTimeSeries getLsc(DimensionalCoord lscLink) {
+        final Long2ObjectMap<EnergyTimeSeries> dimSeries = lscSeries.get(lscLink.getDimension());
+        return dimSeries == null ? null : dimSeries.get(CoordinatePacker.pack(lscLink.x, lscLink.y, lscLink.z));
+    }
+
+    public EnergyTimeSeries getWireless(UUID player) {
+        return wirelessSeries.get(SpaceProjectManager.getLeader(player));
+    }
+
+    /**
+     * Samples the LSC unless it already was on this tick.
+     */
+    public EnergyTimeSeries sampleLsc(DimensionalCoord lscLink, MTELapotronicSuperCapacitor lsc) {
+        final EnergyTimeSeries series = lscSeries
+            .computeIfAbsent(lscLink.getDimension(), k -> new Long2ObjectOpenHashMap<>())
+            .computeIfAbsent(CoordinatePacker.pack(lscLink.x, lscLink.y, lscLink.z), k -> new EnergyTimeSeries(false));
+        final long tick = getTick();
+        if (series.getLastSampleTick() != tick) {
+            series.add(tick, BigInteger.valueOf(lsc.getEUVar()), lsc.maxEUStore());
+            PowerGogglesWorldSavedData.INSTANCE.markDirty();
+        }
+        return series;
+    }
+
+    /**
+     * Samples the wireless network of the player's team unless it already was on this tick.
+     */
+    public EnergyTimeSeries sampleWireless(UUID player) {
+        final EnergyTimeSeries series = wirelessSeries
+            .computeIfAbsent(SpaceProjectManager.getLeader(player), k -> new EnergyTimeSeries(true));
+        final long tick = getTick();
+        if (series.getLastSampleTick() != tick) {
+            series.add(tick, WirelessNetworkManager.getUserEU(player), 0);
+            PowerGogglesWorldSavedData.INSTANCE.markDirty();
+        }
+        return series;
+    }
+
+    /**
+     * @return The overworld time, which unlike the server tick counter keeps counting across restarts
+     */
+    private static long getTick() {
+        return MinecraftServer.getServer()
+            .worldServerForDimension(0)
+            .getTotalWorldTime();
+    }
+
+    public void clear() {
+        lscSeries.clear();
+        wirelessSeries.clear();
+    }
+
+    public NBTTagList writeToNBT() {
+        final long tick = getTick();
+        final NBTTagList list = new NBTTagList();
+        for (Int2ObjectMap.Entry<Long2ObjectMap<EnergyTimeSeries>> dimSeries : lscSeries.int2ObjectEntrySet()) {
+            dimSeries.getValue()
+                .long2ObjectEntrySet()
+                .removeIf(entry -> isExpired(entry.getValue(), tick));
+            for (Long2ObjectMap.Entry<EnergyTimeSeries> entry : dimSeries.getValue()
+                .long2ObjectEntrySet()) {
+                final NBTTagCompound tag = new NBTTagCompound();
+                tag.setInteger("dim", dimSeries.getIntKey());
+                tag.setLong("pos", entry.getLongKey());
+                tag.setByteArray(
+                    "series",
+                    entry.getValue()
+                        .toBytes());
+                list.appendTag(tag);
+            }
+        }
+        wirelessSeries.values()
+            .removeIf(series -> isExpired(series, tick));
+        for (Map.Entry<UUID, EnergyTimeSeries> entry : wirelessSeries.entrySet()) {
+            final NBTTagCompound tag = new NBTTagCompound();
+            tag.setString(
+                "team",
+                entry.getKey()
+                    .toString());
+            tag.setByteArray(
+                "series",
+                entry.getValue()
+                    .toBytes());
+            list.appendTag(tag);
+        }
+        return list;
+    }
+
+    private static boolean isExpired(EnergyTimeSeries series, long tick) {
+        return tick - series.getLastSampleTick() > EXPIRY_TICKS;
+    }
+
+    public void readFromNBT(NBTTagList list) {
+        clear();
+        for (int i = 0; i < list.tagCount(); i++) {
+            final NBTTagCompound tag = list.getCompoundTagAt(i);
+            final EnergyTimeSeries series;
+            try {
+                series = EnergyTimeSeries.fromBytes(tag.getByteArray("series"));
+            } catch (IOException e) {
+                GTMod.GT_FML_LOGGER.warn("Skipping corrupted power goggles energy history", e);
+                continue;
+            }
+            if (tag.hasKey("team")) {
+                wirelessSeries.put(UUID.fromString(tag.getString("team")), series);
+            } else {
+                lscSeries.computeIfAbsent(tag.getInteger("dim"), k -> new Long2ObjectOpenHashMap<>())
+                    .put(tag.getLong("pos"), series);
+            }
+        }
+    }
+}
@@ -2,7 +2,6 @@ package gregtech.common.powergoggles;
 
 import static gregtech.api.enums.GTValues.NW;
 
-import java.math.BigInteger;
 import java.util.LinkedList;
 import java.util.Objects;
 import java.util.UUID;
@@ -10,7 +9,6 @@ import java.util.UUID;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.nbt.NBTTagList;
 
 import appeng.api.util.DimensionalCoord;
 import gregtech.api.net.GTPacketOverwritePowerGogglesMeasurements;
@@ -21,7 +19,8 @@ import kekztech.common.tileentities.MTELapotronicSuperCapacitor;
 public class PowerGogglesClient {
 
     private DimensionalCoord lscLink;
-    private LinkedList<PowerGogglesMeasurement> measurements = new LinkedList<>();
+    /** The history of the linked LSC or wireless network, known after the first measurement */
+    private EnergyTimeSeries series;
 
     public PowerGogglesClient() {}
 
@@ -42,7 +41,7 @@ public class PowerGogglesClient {
 
         if (!Objects.equals(lscLink, newLink)) {
             setLscLink(newLink);
-            measurements.clear();
+            series = null;
             overwriteMeasurements(player);
             // Persist data
             PowerGogglesWorldSavedData.INSTANCE.markDirty();
@@ -55,18 +54,20 @@ public class PowerGogglesClient {
 
     public void updatePlayer(EntityPlayerMP playerMP) {
         // Protection against calling with 0 measurements
-        if (measurements.isEmpty()) {
+        if (series == null || series.getSamples()
+            .size() == 0) {
             return;
         }
 
-        PowerGogglesMeasurement lastMeasurement = measurements.getLast();
-        if (lastMeasurement.isWireless()) {
+        EnergyTimeSeries.Tier samples = series.getSamples();
+        int last = samples.size() - 1;
+        if (series.isWireless()) {
             NW.sendToPlayer(
                 new GTPacketUpdatePowerGoggles(WirelessNetworkManager.getUserEU((playerMP).getUniqueID())),
                 playerMP);
         } else {
             NW.sendToPlayer(
-                new GTPacketUpdatePowerGoggles(lastMeasurement.getMeasurement(), lastMeasurement.getCapacity()),
+                new GTPacketUpdatePowerGoggles(samples.getEnergy(last), samples.getCapacity(last)),
                 playerMP);
         }
     }
@@ -81,31 +82,9 @@ public class PowerGogglesClient {
             tag.setInteger("z", lscLink.z);
             tag.setInteger("dim", lscLink.getDimension());
         }
-
-        NBTTagList measurementsTag = new NBTTagList();
-        for (PowerGogglesMeasurement measurement : measurements) {
-            NBTTagCompound tagCompound = new NBTTagCompound();
-            addMeasurementToTag(tagCompound, measurement);
-
-            measurementsTag.appendTag(tagCompound);
-        }
-        tag.setTag("measurements", measurementsTag);
         return tag;
     }
 
-    private void addMeasurementToTag(NBTTagCompound tagCompound, PowerGogglesMeasurement measurement) {
-        tagCompound.setBoolean("isWireless", measurement.isWireless());
-        tagCompound.setByteArray(
-            "measurement",
-            measurement.getMeasurement()
-                .toByteArray());
-
-        if (!measurement.isWireless()) {
-            tagCompound.setLong("capacity", measurement.getCapacity());
-        }
-
-    }
-
     public void measure(EntityPlayerMP playerMP) {
         MTELapotronicSuperCapacitor lsc = PowerGogglesUtil.getLsc(lscLink);
 
@@ -113,25 +92,21 @@ public class PowerGogglesClient {
         if (lsc == null && lscLink != null) {
             return;
         }
+        // players watching the same LSC or network share its samples
+        EnergyTimeSeriesStore store = EnergyTimeSeriesStore.getInstance();
         if (lsc == null) {
-            measurements
-                .addLast(new PowerGogglesMeasurement(true, WirelessNetworkManager.getUserEU(playerMP.getUniqueID())));
+            series = store.sampleWireless(playerMP.getUniqueID());
         } else {
-            measurements
-                .addLast(new PowerGogglesMeasurement(false, BigInteger.valueOf(lsc.getEUVar()), lsc.maxEUStore()));
-        }
-        if (measurements.size() > PowerGogglesConstants.STORED_MEASUREMENTS) {
-            measurements.removeFirst();
+            series = store.sampleLsc(lscLink, lsc);
         }
-        PowerGogglesWorldSavedData.INSTANCE.markDirty();
-
-    }
-
-    public void setMeasurements(LinkedList<PowerGogglesMeasurement> measurements) {
-        this.measurements = measurements;
     }
 
     public void overwriteMeasurements(EntityPlayerMP player) {
+        EnergyTimeSeriesStore store = EnergyTimeSeriesStore.getInstance();
+        EnergyTimeSeries history = lscLink != null ? store.getLsc(lscLink) : store.getWireless(player.getUniqueID());
+        LinkedList<PowerGogglesMeasurement> measurements = history == null ? new LinkedList<>()
+            : history.getSamples()
+                .toMeasurements(history.isWireless());
         NW.sendToPlayer(new GTPacketOverwritePowerGogglesMeasurements(measurements), player);
     }
 
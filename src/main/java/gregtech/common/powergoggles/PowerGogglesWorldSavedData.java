@@ -1,7 +1,5 @@
 package gregtech.common.powergoggles;
 
-import java.math.BigInteger;
-import java.util.LinkedList;
 import java.util.Map;
 import java.util.UUID;
 
@@ -63,6 +61,10 @@ public class PowerGogglesWorldSavedData extends WorldSavedData {
                     .getNBT(client.getKey()));
         }
         nbtTagCompound.setTag("clientList", clientList);
+        nbtTagCompound.setTag(
+            "energySeries",
+            EnergyTimeSeriesStore.getInstance()
+                .writeToNBT());
     }
 
     @Override
@@ -70,7 +72,8 @@ public class PowerGogglesWorldSavedData extends WorldSavedData {
         NBTTagList clientList = nbtTagCompound.getTagList("clientList", nbtTagCompoundType);
 
         processClientList(clientList);
-
+        EnergyTimeSeriesStore.getInstance()
+            .readFromNBT(nbtTagCompound.getTagList("energySeries", nbtTagCompoundType));
     }
 
     private void processClientList(NBTTagList clientList) {
@@ -96,29 +99,8 @@ public class PowerGogglesWorldSavedData extends WorldSavedData {
                 tagCompound.getInteger("z"),
                 tagCompound.getInteger("dim"));
 
-        PowerGogglesClient client = new PowerGogglesClient(coords);
-        client.setMeasurements(getMeasurementsFromTag(tagCompound));
-        return client;
-    }
-
-    private LinkedList<PowerGogglesMeasurement> getMeasurementsFromTag(NBTTagCompound tagCompound) {
-        LinkedList<PowerGogglesMeasurement> measurements = new LinkedList<>();
-
-        NBTTagList measurementsTagList = tagCompound.getTagList("measurements", nbtTagCompoundType);
-        for (Object tag : measurementsTagList.tagList) {
-
-            NBTTagCompound measurementTag = (NBTTagCompound) tag;
-
-            BigInteger measurement = new BigInteger(measurementTag.getByteArray("measurement"));
-            if (measurementTag.getBoolean("isWireless")) {
-                measurements.add(new PowerGogglesMeasurement(true, measurement));
-            } else {
-                long capacity = measurementTag.getLong("capacity");
-                measurements.add(new PowerGogglesMeasurement(false, measurement, capacity));
-            }
-
-        }
-        return measurements;
+        // measurements saved per player by older versions are dropped, the shared history starts over
+        return new PowerGogglesClient(coords);
     }
 
 }
@@ -17,6 +17,7 @@ import cpw.mods.fml.common.gameevent.PlayerEvent;
 import cpw.mods.fml.common.gameevent.TickEvent;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
+import gregtech.common.powergoggles.EnergyTimeSeriesStore;
 import gregtech.common.powergoggles.PowerGogglesClient;
 import gregtech.common.powergoggles.PowerGogglesConstants;
 import gregtech.common.powergoggles.PowerGogglesUtil;
@@ -125,6 +126,8 @@ public class PowerGogglesEventHandler {
 
     public void onServerStopped(FMLServerStoppedEvent event) {
         this.clients = new HashMap<>();
+        EnergyTimeSeriesStore.getInstance()
+            .clear();
     }
 
     public Map<UUID, PowerGogglesClient> getClients() {
@@ -0,0 +1,226 @@
+package gregtech.common.render;
+
+import net.minecraft.block.Block;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.GLAllocation;
+import net.minecraft.client.renderer.RenderBlocks;
+import net.minecraft.client.renderer.Tessellator;
+import net.minecraft.client.renderer.culling.Frustrum;
+import net.minecraft.client.renderer.entity.RenderManager;
+import net.minecraft.client.renderer.texture.TextureMap;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.World;
+import net.minecraftforge.client.event.RenderWorldLastEvent;
+import net.minecraftforge.common.util.ForgeDirection;
+import net.minecraftforge.event.world.WorldEvent;
+
+import org.lwjgl.opengl.GL11;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+import gregtech.api.interfaces.ITexture;
+import gregtech.api.metatileentity.BaseMetaTileEntity;
+import gregtech.api.render.ISBRWorldContext;
+import gregtech.api.render.SBRContextHolder;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+
+/**
+ * Draws the overlays of {@link gregtech.api.interfaces.metatileentity.IDynamicOverlay} machines every frame, so that
+ * a machine starting or stopping only recompiles the overlays of its chunk instead of re-meshing the whole render
+ * chunk.
+ * <p>
+ * The overlays of each chunk column are compiled into one display list per render pass, which is only rebuilt when a
+ * machine in it changes, or every few seconds to pick up lighting changes around it.
+ */
+@SideOnly(Side.CLIENT)
+public class DynamicOverlayRenderer {
+
+    public static final DynamicOverlayRenderer INSTANCE = new DynamicOverlayRenderer();
+
+    private static final long REFRESH_INTERVAL_MS = 5_000;
+
+    private final Long2ObjectMap<Batch> batches = new Long2ObjectOpenHashMap<>();
+    private final SBRContextHolder sbrContextHolder = new SBRContextHolder();
+    private final Frustrum frustum = new Frustrum();
+    private RenderBlocks renderBlocks;
+
+    private DynamicOverlayRenderer() {}
+
+    public void add(BaseMetaTileEntity tile) {
+        final long key = ChunkCoordIntPair.chunkXZ2Int(tile.xCoord >> 4, tile.zCoord >> 4);
+        Batch batch = batches.get(key);
+        if (batch == null) {
+            batch = new Batch(tile.xCoord >> 4, tile.zCoord >> 4);
+            batches.put(key, batch);
+        }
+        batch.tiles.add(tile);
+        batch.dirty = true;
+    }
+
+    public void remove(BaseMetaTileEntity tile) {
+        final long key = ChunkCoordIntPair.chunkXZ2Int(tile.xCoord >> 4, tile.zCoord >> 4);
+        final Batch batch = batches.get(key);
+        if (batch == null || !batch.tiles.remove(tile)) return;
+
+        if (batch.tiles.isEmpty()) {
+            batch.delete();
+            batches.remove(key);
+        } else {
+            batch.dirty = true;
+        }
+    }
+
+    public void markDirty(BaseMetaTileEntity tile) {
+        final Batch batch = batches.get(ChunkCoordIntPair.chunkXZ2Int(tile.xCoord >> 4, tile.zCoord >> 4));
+        if (batch != null) batch.dirty = true;
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event) {
+        if (!event.world.isRemote) return;
+
+        for (Batch batch : batches.values()) {
+            batch.delete();
+        }
+        batches.clear();
+        renderBlocks = null;
+    }
+
+    @SubscribeEvent
+    public void onRenderWorldLast(RenderWorldLastEvent event) {
+        if (batches.isEmpty()) return;
+
+        final Minecraft mc = Minecraft.getMinecraft();
+        final World world = mc.theWorld;
+        if (world == null) return;
+        if (renderBlocks == null || renderBlocks.blockAccess != world) renderBlocks = new RenderBlocks(world);
+
+        final double camX = RenderManager.renderPosX, camY = RenderManager.renderPosY, camZ = RenderManager.renderPosZ;
+        frustum.setPosition(camX, camY, camZ);
+        final long now = Minecraft.getSystemTime();
+
+        for (Batch batch : batches.values()) {
+            if (batch.dirty || now - batch.builtAt > REFRESH_INTERVAL_MS) compile(batch, now);
+        }
+
+        GL11.glPushAttrib(
+            GL11.GL_ENABLE_BIT | GL11.GL_COLOR_BUFFER_BIT
+                | GL11.GL_DEPTH_BUFFER_BIT
+                | GL11.GL_POLYGON_BIT
+                | GL11.GL_LIGHTING_BIT);
+        mc.entityRenderer.enableLightmap(event.partialTicks);
+        mc.getTextureManager()
+            .bindTexture(TextureMap.locationBlocksTexture);
+        GL11.glDisable(GL11.GL_LIGHTING);
+        GL11.glEnable(GL11.GL_DEPTH_TEST);
+        GL11.glEnable(GL11.GL_CULL_FACE);
+        GL11.glEnable(GL11.GL_ALPHA_TEST);
+        GL11.glAlphaFunc(GL11.GL_GREATER, 0.1F);
+        GL11.glShadeModel(GL11.GL_SMOOTH);
+        // the overlays are coplanar with the faces in the chunk mesh
+        GL11.glEnable(GL11.GL_POLYGON_OFFSET_FILL);
+        GL11.glPolygonOffset(-1.0F, -1.0F);
+
+        for (int pass = 0; pass < 2; pass++) {
+            if (pass == 1) {
+                GL11.glEnable(GL11.GL_BLEND);
+                GL11.glBlendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
+                GL11.glDepthMask(false);
+            }
+
+            for (Batch batch : batches.values()) {
+                final double originX = batch.chunkX << 4, originZ = batch.chunkZ << 4;
+                if (!frustum.isBoxInFrustum(originX, batch.minY, originZ, originX + 16, batch.maxY + 1, originZ + 16))
+                    continue;
+
+                GL11.glPushMatrix();
+                GL11.glTranslated(originX - camX, -camY, originZ - camZ);
+                GL11.glCallList(batch.displayList + pass);
+                GL11.glPopMatrix();
+            }
+        }
+
+        GL11.glDepthMask(true);
+        mc.entityRenderer.disableLightmap(event.partialTicks);
+        GL11.glPopAttrib();
+    }
+
+    private void compile(Batch batch, long now) {
+        if (batch.displayList < 0) batch.displayList = GLAllocation.generateDisplayLists(2);
+
+        batch.tiles.removeIf(tile -> tile.isInvalid() || !tile.hasWorldObj());
+        batch.minY = 255;
+        batch.maxY = 0;
+        for (BaseMetaTileEntity tile : batch.tiles) {
+            batch.minY = Math.min(batch.minY, tile.yCoord);
+            batch.maxY = Math.max(batch.maxY, tile.yCoord);
+        }
+
+        final Tessellator tess = Tessellator.instance;
+        for (int pass = 0; pass < 2; pass++) {
+            GL11.glNewList(batch.displayList + pass, GL11.GL_COMPILE);
+            tess.startDrawingQuads();
+            tess.setTranslation(-(batch.chunkX << 4), 0, -(batch.chunkZ << 4));
+            for (BaseMetaTileEntity tile : batch.tiles) {
+                render(tile, pass);
+            }
+            tess.draw();
+            tess.setTranslation(0, 0, 0);
+            GL11.glEndList();
+        }
+
+        batch.dirty = false;
+        batch.builtAt = now;
+    }
+
+    private void render(BaseMetaTileEntity tile, int pass) {
+        final Block block = tile.getBlockType();
+        final ISBRWorldContext ctx = sbrContextHolder.getSBRWorldContext(
+            tile.xCoord,
+            tile.yCoord,
+            tile.zCoord,
+            block,
+            GTRendererBlock.RENDER_ID,
+            renderBlocks,
+            pass);
+        renderBlocks.setRenderBounds(0, 0, 0, 1, 1, 1);
+
+        for (ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+            final ITexture[] overlay = tile.getDynamicOverlayTexture(side);
+            if (overlay == null || overlay.length == 0) continue;
+
+            switch (side) {
+                case DOWN -> ctx.renderNegativeYFacing(overlay);
+                case UP -> ctx.renderPositiveYFacing(overlay);
+                case NORTH -> ctx.renderNegativeZFacing(overlay);
+                case SOUTH -> ctx.renderPositiveZFacing(overlay);
+                case WEST -> ctx.renderNegativeXFacing(overlay);
+                case EAST -> ctx.renderPositiveXFacing(overlay);
+                default -> {}
+            }
+        }
+    }
+
+    private static final class Batch {
+
+        private final int chunkX, chunkZ;
+        private final ReferenceOpenHashSet<BaseMetaTileEntity> tiles = new ReferenceOpenHashSet<>();
+        private int displayList = -1;
+        private int minY, maxY;
+        private boolean dirty = true;
+        private long builtAt;
+
+        private Batch(int chunkX, int chunkZ) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+
+        private void delete() {
+            if (displayList >= 0) GLAllocation.deleteDisplayLists(displayList);
+            displayList = -1;
+        }
+    }
+}
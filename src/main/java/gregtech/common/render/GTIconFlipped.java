@@ -1,7 +1,11 @@
 package gregtech.common.render;
 
+import java.util.Map;
+
 import net.minecraft.util.IIcon;
 
+import com.google.common.collect.MapMaker;
+
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 
@@ -12,12 +16,34 @@ public class GTIconFlipped implements IIcon {
     private final boolean flipU;
     private final boolean flipV;
 
+    /** The flipped variants of each icon, indexed by {@code flipU | flipV << 1} */
+    private static final Map<IIcon, GTIconFlipped[]> FLIPPED = new MapMaker().weakKeys()
+        .makeMap();
+
     public GTIconFlipped(IIcon baseIcon, boolean flipU, boolean flipV) {
         this.baseIcon = baseIcon;
         this.flipU = flipU;
         this.flipV = flipV;
     }
 
+    /**
+     * Returns a shared flipped view of the given icon, or the icon itself if it isn't flipped. The views only forward
+     * to the icon, so they stay valid when the texture atlas is stitched again.
+     */
+    public static IIcon of(IIcon baseIcon, boolean flipU, boolean flipV) {
+        if (!flipU && !flipV) return baseIcon;
+
+        final GTIconFlipped[] variants = FLIPPED.computeIfAbsent(baseIcon, icon -> new GTIconFlipped[4]);
+        final int index = (flipU ? 1 : 0) | (flipV ? 2 : 0);
+        GTIconFlipped flipped = variants[index];
+        if (flipped == null) {
+            // racing render threads at worst create the same view twice
+            flipped = new GTIconFlipped(baseIcon, flipU, flipV);
+            variants[index] = flipped;
+        }
+        return flipped;
+    }
+
     /**
      * Returns the width of the icon, in pixels.
      */
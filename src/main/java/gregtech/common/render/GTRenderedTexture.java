@@ -342,7 +342,7 @@ public class GTRenderedTexture extends GTTextureBase implements ITexture, IColor
                 flipV = true;
             }
 
-            return new GTIconFlipped(icon, flipU, flipV);
+            return GTIconFlipped.of(icon, flipU, flipV);
         }
 
         // certain directions need to be flipped horizontally seemingly randomly
@@ -366,7 +366,7 @@ public class GTRenderedTexture extends GTTextureBase implements ITexture, IColor
             flipU ^= true;
         }
 
-        return new GTIconFlipped(icon, flipU, flipV);
+        return GTIconFlipped.of(icon, flipU, flipV);
     }
 
     private ExtendedFacing getExtendedFacing(int x, int y, int z) {
@@ -122,9 +122,22 @@ public final class SBRWorldContext extends SBRContextBase implements ISBRWorldCo
     public
     // Blame ISimpleBlockRenderingHandler.renderWorldBlock
     SBRWorldContext setup(int x, int y, int z, Block block, int modelId, RenderBlocks renderBlocks) {
+        return setup(x, y, z, block, modelId, renderBlocks, ForgeHooksClient.getWorldRenderPass());
+    }
+
+    /**
+     * Same as {@link #setup(int, int, int, Block, int, RenderBlocks)}, but for the given world render pass instead of
+     * the current one. Used when rendering outside of chunk rebuilds.
+     *
+     * @param worldRenderPass the world render pass to render
+     * @return this context instance, configured with the given parameters
+     */
+    @SuppressWarnings("MethodWithTooManyParameters")
+    public SBRWorldContext setup(int x, int y, int z, Block block, int modelId, RenderBlocks renderBlocks,
+        int worldRenderPass) {
         super.setup(block, modelId, renderBlocks);
         this.blockAccess = renderBlocks.blockAccess;
-        this.worldRenderPass = ForgeHooksClient.getWorldRenderPass();
+        this.worldRenderPass = worldRenderPass;
         this.x = x;
         this.y = y;
         this.z = z;
@@ -68,7 +68,6 @@ import appeng.core.localization.WailaText;
 import appeng.me.GridAccessException;
 import appeng.me.helpers.AENetworkProxy;
 import appeng.me.helpers.IGridProxyable;
-import appeng.util.Platform;
 import appeng.util.item.AEItemStack;
 import gregtech.api.GregTechAPI;
 import gregtech.api.enums.Dyes;
@@ -92,6 +91,8 @@ import gregtech.api.util.GTDataUtils;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.shutdown.ShutDownReasonRegistry;
 import gregtech.common.gui.modularui.widget.AESlotWidget;
+import gregtech.crossmod.ae2.MEExtractionBatch;
+import gregtech.crossmod.ae2.MEStorageWatcher;
 import mcp.mobius.waila.api.IWailaConfigHandler;
 import mcp.mobius.waila.api.IWailaDataAccessor;
 
@@ -117,6 +118,15 @@ public class MTEHatchInputBusME extends MTEHatchInputBus
      * The cached activity for this bus. Only valid while processing a recipe. This avoids several expensive operations.
      */
     protected boolean cachedActivity = false;
+    /**
+     * Listens to the item storage of the grid, so that only slots whose item actually changed have to be re-queried
+     * when a recipe check starts.
+     */
+    protected final MEStorageWatcher<IAEItemStack> storageWatcher = new MEStorageWatcher<>(
+        this::getMatchingSlotMask,
+        this::markContentsChanged);
+    /** Extracts what was consumed when this hatch is used outside of a controller's recipe check. */
+    protected final MEExtractionBatch extractionBatch = new MEExtractionBatch();
 
     public MTEHatchInputBusME(int aID, boolean autoPullAvailable, String aName, String aNameRegional) {
         super(aID, aName, aNameRegional, autoPullAvailable ? 6 : 3, 2, getDescriptionArray(autoPullAvailable));
@@ -149,7 +159,7 @@ public class MTEHatchInputBusME extends MTEHatchInputBus
     @Override
     public void onPostTick(IGregTechTileEntity aBaseMetaTileEntity, long aTimer) {
         if (aBaseMetaTileEntity.isServerSide()) {
-            if (aTimer % autoPullRefreshTime == 0 && autoPullItemList) {
+            if (aTimer % autoPullRefreshTime == 0 && autoPullItemList && storageWatcher.hasStorageChanged()) {
                 refreshItemList();
             }
             if (aTimer % 20 == 0) {
@@ -177,6 +187,9 @@ public class MTEHatchInputBusME extends MTEHatchInputBus
     public void onEnableWorking() {
         super.onEnableWorking();
 
+        // auto-pull cleared its slots when the bus was disabled
+        storageWatcher.markStorageChanged();
+
         if (expediteRecipeCheck) {
             justHadNewItems = true;
         }
@@ -218,6 +231,18 @@ public class MTEHatchInputBusME extends MTEHatchInputBus
         getProxy().onReady();
     }
 
+    @Override
+    public void onRemoval() {
+        super.onRemoval();
+        storageWatcher.unwatch();
+    }
+
+    @Override
+    public void onUnload() {
+        super.onUnload();
+        storageWatcher.unwatch();
+    }
+
     @Override
     public AECableType getCableConnectionType(ForgeDirection forgeDirection) {
         return isOutputFacing(forgeDirection) ? AECableType.SMART : AECableType.NONE;
@@ -664,6 +689,9 @@ public class MTEHatchInputBusME extends MTEHatchInputBus
             return;
         }
 
+        storageWatcher.watch(sg);
+        storageWatcher.clearStorageChanged();
+
         int index = 0;
 
         clearSlotConfigs();
@@ -689,26 +717,61 @@ public class MTEHatchInputBusME extends MTEHatchInputBus
 
             if (!Objects.equals(oldSlot, newSlot)) {
                 justHadNewItems = true;
+                markContentsChanged();
             }
 
             index++;
         }
+
+        // the storage list is as fresh as a simulated extraction, so the slots don't need to be queried again
+        storageWatcher.pollDirtySlots();
     }
 
+    /**
+     * Re-queries every slot whose item changed in the ME system since it was last queried. Slots that didn't change
+     * keep their mirrored stack, unless the last recipe check consumed from it.
+     */
     protected void updateAllInformationSlots() {
         if (isAllowedToWork()) {
             try {
+                storageWatcher.watch(
+                    getProxy().getStorage()
+                        .getItemInventory());
+
+                int dirty = storageWatcher.pollDirtySlots();
+
                 for (int index = 0; index < SLOT_COUNT; index++) {
-                    updateInformationSlot(index);
+                    Slot slot = slots[index];
+
+                    if (slot == null) continue;
+
+                    boolean consumed = slot.extracted != null && slot.extracted.stackSize != slot.extractedAmount;
+
+                    if ((dirty & (1 << index)) != 0 || consumed) {
+                        updateInformationSlot(index);
+                    }
                 }
             } catch (GridAccessException e) {
-                // :P
+                // the grid went away halfway through, so nothing we mirrored can be trusted anymore
+                storageWatcher.invalidateAll();
             }
         } else {
             clearExtractedStacks();
         }
     }
 
+    private int getMatchingSlotMask(IAEItemStack stack) {
+        int mask = 0;
+
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            Slot slot = slots[i];
+
+            if (slot != null && stack.isSameType(slot.config)) mask |= 1 << i;
+        }
+
+        return mask;
+    }
+
     @Override
     public CheckRecipeResult endRecipeProcessing(MTEMultiBlockBase controller) {
         CheckRecipeResult checkRecipeResult = CheckRecipeResultRegistry.SUCCESSFUL;
@@ -732,6 +795,11 @@ public class MTEHatchInputBusME extends MTEHatchInputBus
             return SimpleCheckRecipeResult.ofFailurePersistOnShutdown("stocking_bus_fail_extraction");
         }
 
+        MEExtractionBatch batch = controller.getMEExtractionBatch();
+        if (batch == null) batch = extractionBatch;
+
+        boolean queued = false;
+
         for (Slot slot : slots) {
             if (slot == null || slot.extracted == null || slot.extractedAmount == 0) continue;
 
@@ -739,14 +807,17 @@ public class MTEHatchInputBusME extends MTEHatchInputBus
 
             if (toExtract <= 0) continue;
 
-            IAEItemStack request = slot.createAEStack(toExtract);
+            batch.add(energy, sg, getRequestSource(), slot.createAEStack(toExtract));
+            queued = true;
+        }
 
-            IAEItemStack result = Platform.poweredExtraction(energy, sg, request, getRequestSource());
+        if (queued) batch.onRollback(this::onExtractionRolledBack);
 
-            if (result == null || result.getStackSize() != toExtract) {
-                controller.stopMachine(ShutDownReasonRegistry.CRITICAL_NONE);
-                checkRecipeResult = SimpleCheckRecipeResult.ofFailurePersistOnShutdown("stocking_bus_fail_extraction");
-            }
+        // outside of a recipe check there is no controller batch to join, so the extraction happens right away
+        if (batch == extractionBatch) {
+            checkRecipeResult = batch.commit();
+
+            if (!checkRecipeResult.wasSuccessful()) controller.stopMachine(ShutDownReasonRegistry.CRITICAL_NONE);
         }
 
         processingRecipe = false;
@@ -754,8 +825,15 @@ public class MTEHatchInputBusME extends MTEHatchInputBus
         return checkRecipeResult;
     }
 
+    private CheckRecipeResult onExtractionRolledBack() {
+        // nothing was extracted, but the mirrored stacks were consumed from
+        storageWatcher.invalidateAll();
+        return SimpleCheckRecipeResult.ofFailurePersistOnShutdown("stocking_bus_fail_extraction");
+    }
+
     public void setSlotConfig(int index, ItemStack config) {
         slots[index] = config == null ? null : new Slot(config.copy());
+        storageWatcher.invalidate(index);
     }
 
     /**
@@ -791,6 +869,7 @@ public class MTEHatchInputBusME extends MTEHatchInputBus
 
     protected void clearSlotConfigs() {
         Arrays.fill(slots, null);
+        storageWatcher.invalidateAll();
     }
 
     protected void clearExtractedStacks() {
@@ -799,6 +878,8 @@ public class MTEHatchInputBusME extends MTEHatchInputBus
 
             slot.resetExtracted();
         }
+
+        storageWatcher.invalidateAll();
     }
 
     /**
@@ -95,6 +95,8 @@ import gregtech.api.render.TextureFactory;
 import gregtech.api.util.GTDataUtils;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.shutdown.ShutDownReasonRegistry;
+import gregtech.crossmod.ae2.MEExtractionBatch;
+import gregtech.crossmod.ae2.MEStorageWatcher;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import mcp.mobius.waila.api.IWailaConfigHandler;
 import mcp.mobius.waila.api.IWailaDataAccessor;
@@ -126,6 +128,15 @@ public class MTEHatchInputME extends MTEHatchInput implements IPowerChannelState
      * operations.
      */
     protected boolean cachedActivity = false;
+    /**
+     * Listens to the fluid storage of the grid, so that only slots whose fluid actually changed have to be re-queried
+     * when a recipe check starts.
+     */
+    protected final MEStorageWatcher<IAEFluidStack> storageWatcher = new MEStorageWatcher<>(
+        this::getMatchingSlotMask,
+        this::markContentsChanged);
+    /** Extracts what was consumed when this hatch is used outside of a controller's recipe check. */
+    protected final MEExtractionBatch extractionBatch = new MEExtractionBatch();
 
     protected static final int CONFIG_WINDOW_ID = 10;
     protected static final FluidTankInfo[] EMPTY_FLUID_TANK_INFOS = new FluidTankInfo[0];
@@ -159,7 +170,7 @@ public class MTEHatchInputME extends MTEHatchInput implements IPowerChannelState
     @Override
     public void onPostTick(IGregTechTileEntity aBaseMetaTileEntity, long aTimer) {
         if (aBaseMetaTileEntity.isServerSide()) {
-            if (aTimer % autoPullRefreshTime == 0 && autoPullFluidList) {
+            if (aTimer % autoPullRefreshTime == 0 && autoPullFluidList && storageWatcher.hasStorageChanged()) {
                 refreshFluidList();
             }
             if (aTimer % 20 == 0) {
@@ -187,6 +198,9 @@ public class MTEHatchInputME extends MTEHatchInput implements IPowerChannelState
     public void onEnableWorking() {
         super.onEnableWorking();
 
+        // auto-pull cleared its slots when the hatch was disabled
+        storageWatcher.markStorageChanged();
+
         if (expediteRecipeCheck) {
             justHadNewFluids = true;
         }
@@ -237,6 +251,9 @@ public class MTEHatchInputME extends MTEHatchInput implements IPowerChannelState
             return;
         }
 
+        storageWatcher.watch(sg);
+        storageWatcher.clearStorageChanged();
+
         int index = 0;
 
         clearSlotConfigs();
@@ -262,10 +279,14 @@ public class MTEHatchInputME extends MTEHatchInput implements IPowerChannelState
 
             if (!Objects.equals(oldSlot, newSlot)) {
                 justHadNewFluids = true;
+                markContentsChanged();
             }
 
             index++;
         }
+
+        // the storage list is as fresh as a simulated extraction, so the slots don't need to be queried again
+        storageWatcher.pollDirtySlots();
     }
 
     public FluidStack[] getStoredFluids() {
@@ -441,9 +462,12 @@ public class MTEHatchInputME extends MTEHatchInput implements IPowerChannelState
             return SimpleCheckRecipeResult.ofFailurePersistOnShutdown("stocking_hatch_fail_extraction");
         }
 
-        for (int i = 0; i < SLOT_COUNT; i++) {
-            Slot slot = slots[i];
+        MEExtractionBatch batch = controller.getMEExtractionBatch();
+        if (batch == null) batch = extractionBatch;
+
+        boolean queued = false;
 
+        for (Slot slot : slots) {
             if (slot == null || slot.extracted == null || slot.extractedAmount == 0) continue;
 
             int toExtract = slot.extractedAmount - slot.extracted.amount;
@@ -457,13 +481,17 @@ public class MTEHatchInputME extends MTEHatchInput implements IPowerChannelState
             IAEFluidStack request = AEFluidStack.create(slot.extracted);
             request.setStackSize(toExtract);
 
-            IAEFluidStack result = Platform.poweredExtraction(energy, sg, request, getRequestSource());
+            batch.add(energy, sg, getRequestSource(), request);
+            queued = true;
+        }
 
-            if (result == null || result.getStackSize() != toExtract) {
-                controller.stopMachine(ShutDownReasonRegistry.CRITICAL_NONE);
-                checkRecipeResult = SimpleCheckRecipeResult
-                    .ofFailurePersistOnShutdown("stocking_hatch_fail_extraction");
-            }
+        if (queued) batch.onRollback(this::onExtractionRolledBack);
+
+        // outside of a recipe check there is no controller batch to join, so the extraction happens right away
+        if (batch == extractionBatch) {
+            checkRecipeResult = batch.commit();
+
+            if (!checkRecipeResult.wasSuccessful()) controller.stopMachine(ShutDownReasonRegistry.CRITICAL_NONE);
         }
 
         processingRecipe = false;
@@ -471,12 +499,30 @@ public class MTEHatchInputME extends MTEHatchInput implements IPowerChannelState
         return checkRecipeResult;
     }
 
+    private CheckRecipeResult onExtractionRolledBack() {
+        // nothing was extracted, but the mirrored amounts were already lowered
+        storageWatcher.invalidateAll();
+        return SimpleCheckRecipeResult.ofFailurePersistOnShutdown("stocking_hatch_fail_extraction");
+    }
+
     @Override
     public void onFirstTick(IGregTechTileEntity aBaseMetaTileEntity) {
         super.onFirstTick(aBaseMetaTileEntity);
         getProxy().onReady();
     }
 
+    @Override
+    public void onRemoval() {
+        super.onRemoval();
+        storageWatcher.unwatch();
+    }
+
+    @Override
+    public void onUnload() {
+        super.onUnload();
+        storageWatcher.unwatch();
+    }
+
     @Override
     public AECableType getCableConnectionType(ForgeDirection forgeDirection) {
         return isOutputFacing(forgeDirection) ? AECableType.SMART : AECableType.NONE;
@@ -565,22 +611,54 @@ public class MTEHatchInputME extends MTEHatchInput implements IPowerChannelState
         return expediteRecipeCheck;
     }
 
+    /**
+     * Re-queries every slot whose fluid changed in the ME system since it was last queried. Slots that didn't change
+     * keep their mirrored stack, unless the last recipe check consumed from it.
+     */
     protected void updateAllInformationSlots() {
         if (isAllowedToWork()) {
             try {
+                storageWatcher.watch(
+                    getProxy().getStorage()
+                        .getFluidInventory());
+
+                int dirty = storageWatcher.pollDirtySlots();
+
                 for (int index = 0; index < SLOT_COUNT; index++) {
-                    updateInformationSlot(index);
+                    Slot slot = slots[index];
+
+                    if (slot == null) continue;
+
+                    boolean consumed = slot.extracted != null && slot.extracted.amount != slot.extractedAmount;
+
+                    if ((dirty & (1 << index)) != 0 || consumed) {
+                        updateInformationSlot(index);
+                    }
                 }
             } catch (GridAccessException e) {
-                // :P
+                // the grid went away halfway through, so nothing we mirrored can be trusted anymore
+                storageWatcher.invalidateAll();
             }
         } else {
             clearExtractedStacks();
         }
     }
 
+    private int getMatchingSlotMask(IAEFluidStack stack) {
+        int mask = 0;
+
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            Slot slot = slots[i];
+
+            if (slot != null && stack.getFluid() == slot.config.getFluid()) mask |= 1 << i;
+        }
+
+        return mask;
+    }
+
     public void setSlotConfig(int index, FluidStack config) {
         slots[index] = config == null ? null : new Slot(config.copy());
+        storageWatcher.invalidate(index);
     }
 
     /**
@@ -617,6 +695,7 @@ public class MTEHatchInputME extends MTEHatchInput implements IPowerChannelState
 
     protected void clearSlotConfigs() {
         Arrays.fill(slots, null);
+        storageWatcher.invalidateAll();
     }
 
     protected void clearExtractedStacks() {
@@ -625,6 +704,8 @@ public class MTEHatchInputME extends MTEHatchInput implements IPowerChannelState
 
             slot.resetExtracted();
         }
+
+        storageWatcher.invalidateAll();
     }
 
     private BaseActionSource getRequestSource() {
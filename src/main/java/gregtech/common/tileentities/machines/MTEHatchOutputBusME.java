@@ -88,6 +88,8 @@ public class MTEHatchOutputBusME extends MTEHatchOutputBus implements IPowerChan
     final IItemList<IAEItemStack> itemCache = AEApi.instance()
         .storage()
         .createItemList();
+    /** The total amount of items in {@link #itemCache}, or -1 if it has to be recounted. */
+    private long cachedAmount = -1;
     long lastOutputTick = 0;
     long lastInputTick = 0;
     long tickCounter = 0;
@@ -160,6 +162,7 @@ public class MTEHatchOutputBusME extends MTEHatchOutputBus implements IPowerChan
                     AEApi.instance()
                         .storage()
                         .createItemStack(stack));
+                addCachedAmount(stack.stackSize);
                 lastInputTick = tickCounter;
             }
             stack.stackSize = 0;
@@ -170,11 +173,18 @@ public class MTEHatchOutputBusME extends MTEHatchOutputBus implements IPowerChan
     }
 
     protected long getCachedAmount() {
-        long itemAmount = 0;
-        for (IAEItemStack item : itemCache) {
-            itemAmount += item.getStackSize();
+        if (cachedAmount < 0) {
+            long itemAmount = 0;
+            for (IAEItemStack item : itemCache) {
+                itemAmount += item.getStackSize();
+            }
+            cachedAmount = itemAmount;
         }
-        return itemAmount;
+        return cachedAmount;
+    }
+
+    private void addCachedAmount(long amount) {
+        if (cachedAmount >= 0) cachedAmount += amount;
     }
 
     private static final MethodHandle GET_RESTRICTION_LONG;
@@ -310,6 +320,7 @@ public class MTEHatchOutputBusME extends MTEHatchOutputBus implements IPowerChan
                 itemCache.add(AEItemStack.create(e.getKey().getItemStack()).setStackSize(e.getLongValue()));
             });
             // spotless:on
+            addCachedAmount(currentStored);
 
             MTEHatchOutputBusME.this.markDirty();
 
@@ -412,6 +423,7 @@ public class MTEHatchOutputBusME extends MTEHatchOutputBus implements IPowerChan
                 s.setStackSize(0);
             }
         } catch (final GridAccessException ignored) {}
+        cachedAmount = -1;
         lastOutputTick = tickCounter;
     }
 
@@ -643,6 +655,7 @@ public class MTEHatchOutputBusME extends MTEHatchOutputBus implements IPowerChan
         baseCapacity = aNBT.getLong("baseCapacity");
         if (baseCapacity == 0) baseCapacity = DEFAULT_CAPACITY;
         hadCell = aNBT.getBoolean("hadCell");
+        cachedAmount = -1;
         getProxy().readFromNBT(aNBT);
         updateAE2ProxyColor();
     }
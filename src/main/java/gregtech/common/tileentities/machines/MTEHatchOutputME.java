@@ -90,6 +90,8 @@ public class MTEHatchOutputME extends MTEHatchOutput implements IPowerChannelSta
     final IItemList<IAEFluidStack> fluidCache = AEApi.instance()
         .storage()
         .createFluidList();
+    /** The total amount of fluid in {@link #fluidCache}, or -1 if it has to be recounted. */
+    private long cachedAmount = -1;
     long lastOutputTick = 0;
     long lastInputTick = 0;
     long tickCounter = 0;
@@ -275,11 +277,14 @@ public class MTEHatchOutputME extends MTEHatchOutput implements IPowerChannelSta
     }
 
     private long getCachedAmount() {
-        long fluidAmount = 0;
-        for (IAEFluidStack fluid : fluidCache) {
-            fluidAmount += fluid.getStackSize();
+        if (cachedAmount < 0) {
+            long fluidAmount = 0;
+            for (IAEFluidStack fluid : fluidCache) {
+                fluidAmount += fluid.getStackSize();
+            }
+            cachedAmount = fluidAmount;
         }
-        return fluidAmount;
+        return cachedAmount;
     }
 
     private static final MethodHandle GET_RESTRICTION_LONG;
@@ -362,6 +367,7 @@ public class MTEHatchOutputME extends MTEHatchOutput implements IPowerChannelSta
                 AEApi.instance()
                     .storage()
                     .createFluidStack(aFluid));
+            if (cachedAmount >= 0) cachedAmount += aFluid.amount;
             lastInputTick = tickCounter;
             return aFluid.amount;
         }
@@ -492,6 +498,7 @@ public class MTEHatchOutputME extends MTEHatchOutput implements IPowerChannelSta
                 s.setStackSize(0);
             }
         } catch (final GridAccessException ignored) {}
+        cachedAmount = -1;
         lastOutputTick = tickCounter;
     }
 
@@ -695,6 +702,7 @@ public class MTEHatchOutputME extends MTEHatchOutput implements IPowerChannelSta
         baseCapacity = aNBT.getLong("baseCapacity");
         if (baseCapacity == 0) baseCapacity = DEFAULT_CAPACITY;
         hadCell = aNBT.getBoolean("hadCell");
+        cachedAmount = -1;
         getProxy().readFromNBT(aNBT);
         updateAE2ProxyColor();
     }
@@ -204,6 +204,11 @@ public class MTEBetterJukebox extends MTEBasicMachine implements IAddUIWidgets,
         return super.getCapability(capability, side);
     }
 
+    @Override
+    public boolean hasDynamicOverlay() {
+        return false;
+    }
+
     @Override
     public ITexture[] getTexture(IGregTechTileEntity baseMetaTileEntity, ForgeDirection sideDirection,
         ForgeDirection facingDirection, int colorIndex, boolean active, boolean redstoneLevel) {
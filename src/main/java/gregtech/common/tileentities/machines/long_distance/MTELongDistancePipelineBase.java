@@ -53,6 +53,7 @@ import gregtech.api.items.BlockLongDistancePipe;
 import gregtech.api.metatileentity.BaseMetaTileEntity;
 import gregtech.api.metatileentity.implementations.MTEBasicHullNonElectric;
 import gregtech.api.util.GTUtility;
+import gregtech.common.data.GTStructureIndex;
 import mcp.mobius.waila.api.IWailaConfigHandler;
 import mcp.mobius.waila.api.IWailaDataAccessor;
 
@@ -210,6 +211,8 @@ public abstract class MTELongDistancePipelineBase extends MTEBasicHullNonElectri
         mTargetPos = getCoords();
         mTarget = this;
         mSender = null;
+        // the pipeline may have grown into chunks that weren't loaded before
+        GTStructureIndex.update(this);
 
         // Start scanning from the output side
         Block aBlock = gtTile.getBlockAtSide(gtTile.getBackFacing());
@@ -307,6 +310,25 @@ public abstract class MTELongDistancePipelineBase extends MTEBasicHullNonElectri
         mSender = null;
     }
 
+    @Override
+    public void onFirstTick(IGregTechTileEntity aBaseMetaTileEntity) {
+        super.onFirstTick(aBaseMetaTileEntity);
+        // hear of pipe blocks changing anywhere along the pipeline
+        if (aBaseMetaTileEntity.isServerSide()) GTStructureIndex.update(this);
+    }
+
+    @Override
+    public void onRemoval() {
+        super.onRemoval();
+        GTStructureIndex.remove(this);
+    }
+
+    @Override
+    public void onUnload() {
+        super.onUnload();
+        GTStructureIndex.remove(this);
+    }
+
     @Override
     public boolean shouldTriggerBlockUpdate() {
         return true;
@@ -65,6 +65,7 @@ import gregtech.api.util.MultiblockTooltipBuilder;
 import gregtech.api.util.WorldSpawnedEventBuilder;
 import gregtech.api.util.WorldSpawnedEventBuilder.ParticleEventBuilder;
 import gregtech.client.GTSoundLoop;
+import gregtech.common.data.GTStructureIndex;
 import gregtech.common.gui.modularui.multiblock.MTEBrickedBlastFurnaceGui;
 import gregtech.common.pollution.Pollution;
 import mcp.mobius.waila.api.IWailaConfigHandler;
@@ -301,6 +302,7 @@ public class MTEBrickedBlastFurnace extends MetaTileEntity
             }
             if (this.mUpdate-- == 0) {
                 this.mMachine = checkMachine();
+                GTStructureIndex.update(this);
             }
             if (this.mMachine) {
                 if (this.mMaxProgresstime > 0) {
@@ -365,6 +367,18 @@ public class MTEBrickedBlastFurnace extends MetaTileEntity
             .playSound(activitySoundLoop);
     }
 
+    @Override
+    public void onRemoval() {
+        super.onRemoval();
+        GTStructureIndex.remove(this);
+    }
+
+    @Override
+    public void onUnload() {
+        super.onUnload();
+        GTStructureIndex.remove(this);
+    }
+
     @Override
     public void onFirstTick(IGregTechTileEntity aBaseMetaTileEntity) {
         super.onFirstTick(aBaseMetaTileEntity);
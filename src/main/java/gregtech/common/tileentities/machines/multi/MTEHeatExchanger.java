@@ -485,9 +485,9 @@ public class MTEHeatExchanger extends MTEEnhancedMultiBlockBase<MTEHeatExchanger
 
     @Override
     public void endRecipeProcessing() {
-        super.endRecipeProcessing();
         if (mInputHotFluidHatch instanceof IRecipeProcessingAwareHatch aware && mInputHotFluidHatch.isValid()) {
             aware.endRecipeProcessing(this);
         }
+        super.endRecipeProcessing();
     }
 }
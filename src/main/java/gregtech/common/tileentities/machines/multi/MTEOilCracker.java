@@ -384,12 +384,12 @@ public class MTEOilCracker extends MTEEnhancedMultiBlockBase<MTEOilCracker> impl
 
     @Override
     public void endRecipeProcessing() {
-        super.endRecipeProcessing();
         for (MTEHatchInput hatch : validMTEList(mMiddleInputHatches)) {
             if (hatch instanceof IRecipeProcessingAwareHatch aware) {
                 setResultIfFailure(aware.endRecipeProcessing(this));
             }
         }
+        super.endRecipeProcessing();
     }
 
     @SideOnly(Side.CLIENT)
@@ -58,6 +58,7 @@ import gregtech.api.util.GTRecipe;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.MultiblockTooltipBuilder;
 import gregtech.common.ores.OreManager;
+import gregtech.common.ores.OreScanner;
 import gregtech.crossmod.visualprospecting.VisualProspectingDatabase;
 import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.longs.LongIterator;
@@ -69,6 +70,10 @@ public abstract class MTEOreDrillingPlantBase extends MTEDrillerBase implements
 
     private final LongList oreBlockPositions = new LongArrayList();
     private final LongSet oreBlockSet = new LongOpenHashSet();
+    /** Scan streaming ores of the current layer or chunk into the mine list, null if none is running */
+    private OreScanner.Scan oreScan;
+    /** How long a cycle waiting for the ore scan or the mining pipe takes */
+    private static final int ORE_SCAN_POLL_TICKS = 5;
     protected int mTier = 1;
     private int chunkRadiusConfig = getRadiusInChunks();
     private boolean replaceWithCobblestone = true;
@@ -181,6 +186,7 @@ public abstract class MTEOreDrillingPlantBase extends MTEDrillerBase implements
         if (yHead != oldYHead) {
             oreBlockPositions.clear();
             oreBlockSet.clear();
+            cancelOreScan();
         }
 
         if (mWorkChunkNeedsReload && mChunkLoadingEnabled) { // ask to load machine itself
@@ -188,6 +194,8 @@ public abstract class MTEOreDrillingPlantBase extends MTEDrillerBase implements
             mWorkChunkNeedsReload = false;
         }
         fillMineListIfEmpty(xDrill, yDrill, zDrill, xPipe, zPipe, yHead);
+        // wait for the layer scan before deciding that the layer is mined out
+        if (isScanningOres() && oreBlockPositions.isEmpty()) return waitForOreScan();
         if (oreBlockPositions.isEmpty()) {
             if (veinName == null) {
                 updateVeinNameFromVP(getDrillCoords());
@@ -208,8 +216,8 @@ public abstract class MTEOreDrillingPlantBase extends MTEDrillerBase implements
                     return true;
                 }
             }
-            // new layer - fill again
-            fillMineListIfEmpty(xDrill, yDrill, zDrill, xPipe, zPipe, yHead);
+            // new layer - scanned on the next check, which only has to wait for the pipe to go down
+            return waitForOreScan();
         }
         return tryProcessOreList();
     }
@@ -311,16 +319,16 @@ public abstract class MTEOreDrillingPlantBase extends MTEDrillerBase implements
             mWorkChunkNeedsReload = false;
             return true;
         }
-        if (oreBlockPositions.isEmpty()) {
-            fillChunkMineList(yHead, yDrill);
-            if (oreBlockPositions.isEmpty()) {
-                GTChunkManager.releaseChunk((TileEntity) getBaseMetaTileEntity(), mCurrentChunk);
-                if (!moveToNextChunk(xDrill >> 4, zDrill >> 4)) {
-                    workState = STATE_UPWARD;
-                    updateVeinNameFromVP();
-                }
-                return true;
+        fillChunkMineList(yHead, yDrill);
+        if (isScanningOres()) {
+            if (oreBlockPositions.isEmpty()) return waitForOreScan();
+        } else if (oreBlockPositions.isEmpty()) {
+            GTChunkManager.releaseChunk((TileEntity) getBaseMetaTileEntity(), mCurrentChunk);
+            if (!moveToNextChunk(xDrill >> 4, zDrill >> 4)) {
+                workState = STATE_UPWARD;
+                updateVeinNameFromVP();
             }
+            return true;
         }
         return tryProcessOreList();
     }
@@ -421,9 +429,22 @@ public abstract class MTEOreDrillingPlantBase extends MTEDrillerBase implements
         return result;
     }
 
+    @Override
+    public void onRemoval() {
+        cancelOreScan();
+        super.onRemoval();
+    }
+
+    @Override
+    public void onUnload() {
+        cancelOreScan();
+        super.onUnload();
+    }
+
     @Override
     protected void onAbort() {
         oreBlockPositions.clear();
+        cancelOreScan();
         if (mCurrentChunk != null) {
             GTChunkManager.releaseChunk((TileEntity) getBaseMetaTileEntity(), mCurrentChunk);
         }
@@ -563,26 +584,17 @@ public abstract class MTEOreDrillingPlantBase extends MTEDrillerBase implements
     }
 
     private void fillChunkMineList(int yHead, int yDrill) {
-        if (mCurrentChunk == null || !oreBlockPositions.isEmpty()) return;
+        if (mCurrentChunk == null || !oreBlockPositions.isEmpty() || oreScan != null) return;
 
         oreBlockSet.clear();
 
         final int minX = mCurrentChunk.chunkXPos << 4;
-        final int maxX = minX + 16;
         final int minZ = mCurrentChunk.chunkZPos << 4;
-        final int maxZ = minZ + 16;
-
-        for (int x = minX; x < maxX; ++x) {
-            for (int z = minZ; z < maxZ; ++z) {
-                for (int y = yHead; y < yDrill; ++y) {
-                    tryAddOreBlockToMineList(x, y, z);
-                }
-            }
-        }
+        startOreScan(minX, yHead, minZ, minX + 15, yDrill - 1, minZ + 15);
     }
 
     private void fillMineListIfEmpty(int xDrill, int yDrill, int zDrill, int xPipe, int zPipe, int yHead) {
-        if (!oreBlockPositions.isEmpty()) return;
+        if (!oreBlockPositions.isEmpty() || oreScan != null) return;
 
         oreBlockSet.clear();
 
@@ -592,18 +604,10 @@ public abstract class MTEOreDrillingPlantBase extends MTEDrillerBase implements
         if (mChunkLoadingEnabled) {
             int startX = (xDrill >> 4) << 4;
             int startZ = (zDrill >> 4) << 4;
-            for (int x = startX; x < (startX + 16); ++x) {
-                for (int z = startZ; z < (startZ + 16); ++z) {
-                    tryAddOreBlockToMineList(x, yHead, z);
-                }
-            }
+            startOreScan(startX, yHead, startZ, startX + 15, yHead, startZ + 15);
         } else {
             int radius = chunkRadiusConfig << 4;
-            for (int xOff = -radius; xOff <= radius; xOff++) {
-                for (int zOff = -radius; zOff <= radius; zOff++) {
-                    tryAddOreBlockToMineList(xDrill + xOff, yHead, zDrill + zOff);
-                }
-            }
+            startOreScan(xDrill - radius, yHead, zDrill - radius, xDrill + radius, yHead, zDrill + radius);
         }
     }
 
@@ -611,13 +615,48 @@ public abstract class MTEOreDrillingPlantBase extends MTEDrillerBase implements
         Block block = getBaseMetaTileEntity().getBlock(x, y, z);
         int blockMeta = getBaseMetaTileEntity().getMetaID(x, y, z);
 
-        long pos = CoordinatePacker.pack(x, y, z);
+        if (GTUtility.isOre(block, blockMeta)) {
+            addOreBlockToMineList(CoordinatePacker.pack(x, y, z));
+        }
+    }
 
-        if (GTUtility.isOre(block, blockMeta) && oreBlockSet.add(pos)) {
+    private void addOreBlockToMineList(long pos) {
+        if (oreBlockSet.add(pos)) {
             oreBlockPositions.add(pos);
         }
     }
 
+    private void startOreScan(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        oreScan = OreScanner.scan(getBaseMetaTileEntity().getWorld(), minX, minY, minZ, maxX, maxY, maxZ);
+    }
+
+    /**
+     * Moves the ores found by the running scan into the mine list. Every position is checked again before it's mined.
+     *
+     * @return true if the scan is still running
+     */
+    private boolean isScanningOres() {
+        if (oreScan != null && oreScan.drain(this::addOreBlockToMineList)) {
+            oreScan = null;
+        }
+        return oreScan != null;
+    }
+
+    /**
+     * Ends this cycle after a few ticks instead of a full one, so that waiting for a scan doesn't cost mining time.
+     */
+    private boolean waitForOreScan() {
+        mMaxProgresstime = Math.min(mMaxProgresstime, ORE_SCAN_POLL_TICKS);
+        return true;
+    }
+
+    private void cancelOreScan() {
+        if (oreScan != null) {
+            oreScan.cancel();
+            oreScan = null;
+        }
+    }
+
     protected abstract int getRadiusInChunks();
 
     protected abstract int getBaseProgressTime();
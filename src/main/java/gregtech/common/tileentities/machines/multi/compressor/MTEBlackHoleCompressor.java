@@ -78,7 +78,6 @@ import gregtech.api.util.IGTHatchAdder;
 import gregtech.api.util.MultiblockTooltipBuilder;
 import gregtech.api.util.OverclockCalculator;
 import gregtech.common.blocks.BlockCasings10;
-import gregtech.common.tileentities.machines.IRecipeProcessingAwareHatch;
 import gregtech.common.tileentities.render.TileEntityBlackhole;
 import mcp.mobius.waila.api.IWailaConfigHandler;
 import mcp.mobius.waila.api.IWailaDataAccessor;
@@ -541,10 +540,7 @@ public class MTEBlackHoleCompressor extends MTEExtendedPowerMultiBlockBase<MTEBl
 
             ItemStack removed = bus.removeResource(catalysts, 1);
             if (removed != null) {
-                if (bus instanceof IRecipeProcessingAwareHatch aware) {
-                    setResultIfFailure(aware.endRecipeProcessing(this));
-                    aware.startRecipeProcessing();
-                }
+                // stocking buses extract the catalyst together with the rest of the recipe's inputs
                 if (ItemList.Black_Hole_Opener.isStackEqual(removed) && blackHoleStatus == 1) {
                     blackHoleStatus = 2;
                     createRenderBlock();
@@ -0,0 +1,133 @@
+package gregtech.crossmod.ae2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import appeng.api.config.Actionable;
+import appeng.api.networking.energy.IEnergySource;
+import appeng.api.networking.security.BaseActionSource;
+import appeng.api.storage.IMEInventory;
+import appeng.api.storage.data.IAEStack;
+import appeng.util.Platform;
+import gregtech.GTMod;
+import gregtech.api.recipe.check.CheckRecipeResult;
+import gregtech.api.recipe.check.CheckRecipeResultRegistry;
+
+/**
+ * Collects everything a recipe consumed from the ME stocking hatches of a multiblock and extracts it from the grids
+ * when the recipe check ends.
+ * <p>
+ * The batch is the single rollback point of the recipe: if any extraction comes up short (e.g. because another storage
+ * bus took the items or the grid ran out of power), everything this batch already extracted, across all hatches, is
+ * inserted back without using power. Whatever no longer fits because the storage filled up in the meantime is logged
+ * as lost.
+ */
+public class MEExtractionBatch {
+
+    private final List<Request<?>> requests = new ArrayList<>();
+    private final List<Supplier<CheckRecipeResult>> rollbackListeners = new ArrayList<>();
+
+    /**
+     * Queues the given amount for extraction. Requests for the same stack from the same storage are merged.
+     */
+    public <T extends IAEStack<T>> void add(IEnergySource energy, IMEInventory<T> storage, BaseActionSource source,
+        T request) {
+        if (request == null || request.getStackSize() <= 0) return;
+
+        for (Request<?> queued : requests) {
+            // AE stacks compare by type only
+            if (queued.storage == storage && queued.request.equals(request)) {
+                queued.request.incStackSize(request.getStackSize());
+                return;
+            }
+        }
+
+        requests.add(new Request<>(energy, storage, source, request.copy()));
+    }
+
+    /**
+     * Registers a callback that is run when this batch is rolled back, so that the hatch can resync its mirrored
+     * stacks. The first callback's result is returned by {@link #commit()}.
+     */
+    public void onRollback(Supplier<CheckRecipeResult> listener) {
+        rollbackListeners.add(listener);
+    }
+
+    public boolean isEmpty() {
+        return requests.isEmpty();
+    }
+
+    /**
+     * Extracts all queued requests and clears this batch.
+     *
+     * @return {@link CheckRecipeResultRegistry#SUCCESSFUL} if everything was extracted, otherwise the failure reported
+     *         by the first rollback listener
+     */
+    public CheckRecipeResult commit() {
+        try {
+            for (int i = 0; i < requests.size(); i++) {
+                Request<?> request = requests.get(i);
+
+                if (!request.extract()) {
+                    // the failed request may have been extracted partially, so it is rolled back as well
+                    for (int j = i; j >= 0; j--) {
+                        requests.get(j)
+                            .rollback();
+                    }
+
+                    return notifyRollback();
+                }
+            }
+
+            return CheckRecipeResultRegistry.SUCCESSFUL;
+        } finally {
+            requests.clear();
+            rollbackListeners.clear();
+        }
+    }
+
+    private CheckRecipeResult notifyRollback() {
+        CheckRecipeResult result = null;
+
+        for (Supplier<CheckRecipeResult> listener : rollbackListeners) {
+            CheckRecipeResult listenerResult = listener.get();
+
+            if (result == null) result = listenerResult;
+        }
+
+        return result != null ? result : CheckRecipeResultRegistry.INTERNAL_ERROR;
+    }
+
+    private static class Request<T extends IAEStack<T>> {
+
+        private final IEnergySource energy;
+        private final IMEInventory<T> storage;
+        private final BaseActionSource source;
+        private final T request;
+        private T extracted;
+
+        private Request(IEnergySource energy, IMEInventory<T> storage, BaseActionSource source, T request) {
+            this.energy = energy;
+            this.storage = storage;
+            this.source = source;
+            this.request = request;
+        }
+
+        private boolean extract() {
+            extracted = Platform.poweredExtraction(energy, storage, request, source);
+
+            return extracted != null && extracted.getStackSize() == request.getStackSize();
+        }
+
+        private void rollback() {
+            if (extracted == null) return;
+
+            // the extraction already paid for moving it, and the grid may be out of power by now
+            final T leftover = storage.injectItems(extracted, Actionable.MODULATE, source);
+            if (leftover != null && leftover.getStackSize() > 0) {
+                GTMod.GT_FML_LOGGER.warn("Lost {} while rolling back an ME extraction, the storage is full", leftover);
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package gregtech.crossmod.ae2;
+
+import java.util.function.ToIntFunction;
+
+import appeng.api.networking.security.BaseActionSource;
+import appeng.api.storage.IBaseMonitor;
+import appeng.api.storage.IMEMonitor;
+import appeng.api.storage.IMEMonitorHandlerReceiver;
+import appeng.api.storage.data.IAEStack;
+
+/**
+ * Tracks which slots of an ME stocking hatch are out of date by listening to storage change notifications of the grid
+ * they pull from, so that the hatch only has to re-query the grid for slots that actually changed.
+ * <p>
+ * Slots are addressed as bits of an int, so a watcher supports at most 32 slots. The watcher registers itself lazily
+ * via {@link #watch(IMEMonitor)} and re-registers whenever the hatch ends up on a different grid. Everything is
+ * considered dirty until the first registration.
+ */
+public class MEStorageWatcher<T extends IAEStack<T>> implements IMEMonitorHandlerReceiver<T> {
+
+    public static final int ALL_SLOTS = -1;
+
+    /** Maps a changed stack to the bits of all slots configured for it. */
+    private final ToIntFunction<T> slotMask;
+    /** Called on the server thread whenever a change touched at least one configured slot. */
+    private final Runnable onSlotsChanged;
+
+    private IMEMonitor<T> monitor;
+    private Object token;
+
+    private int dirtySlots = ALL_SLOTS;
+    private boolean storageChanged = true;
+
+    public MEStorageWatcher(ToIntFunction<T> slotMask, Runnable onSlotsChanged) {
+        this.slotMask = slotMask;
+        this.onSlotsChanged = onSlotsChanged;
+    }
+
+    /**
+     * Makes sure this watcher listens to the given monitor. Switching to a new monitor marks everything as dirty,
+     * since any change that happened in between was missed.
+     */
+    public void watch(IMEMonitor<T> monitor) {
+        if (this.monitor == monitor) return;
+
+        unwatch();
+
+        this.monitor = monitor;
+        // a fresh token invalidates the registration on any previous monitor that still holds on to us
+        this.token = new Object();
+        monitor.addListener(this, token);
+
+        invalidateAll();
+        markStorageChanged();
+    }
+
+    public void unwatch() {
+        if (monitor != null) {
+            monitor.removeListener(this);
+            monitor = null;
+        }
+        token = null;
+    }
+
+    public boolean isWatching() {
+        return monitor != null;
+    }
+
+    public void invalidate(int slot) {
+        dirtySlots |= 1 << slot;
+    }
+
+    public void invalidateAll() {
+        dirtySlots = ALL_SLOTS;
+    }
+
+    public boolean isDirty(int slot) {
+        return (dirtySlots & (1 << slot)) != 0;
+    }
+
+    /**
+     * @return the bits of all slots that changed since the last call, clearing them
+     */
+    public int pollDirtySlots() {
+        int dirty = dirtySlots;
+        dirtySlots = 0;
+        return dirty;
+    }
+
+    /**
+     * @return whether anything in the watched storage changed since {@link #clearStorageChanged()}, including stacks
+     *         no slot is configured for
+     */
+    public boolean hasStorageChanged() {
+        return storageChanged;
+    }
+
+    public void clearStorageChanged() {
+        storageChanged = false;
+    }
+
+    public void markStorageChanged() {
+        storageChanged = true;
+    }
+
+    @Override
+    public boolean isValid(Object verificationToken) {
+        return verificationToken != null && verificationToken == token;
+    }
+
+    @Override
+    public void postChange(IBaseMonitor<T> monitor, Iterable<T> change, BaseActionSource actionSource) {
+        int changed = 0;
+
+        for (T stack : change) {
+            changed |= slotMask.applyAsInt(stack);
+        }
+
+        storageChanged = true;
+
+        if (changed != 0) {
+            dirtySlots |= changed;
+            onSlotsChanged.run();
+        }
+    }
+
+    @Override
+    public void onListUpdate() {
+        invalidateAll();
+        markStorageChanged();
+        onSlotsChanged.run();
+    }
+}
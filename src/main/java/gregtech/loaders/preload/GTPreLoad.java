@@ -34,6 +34,7 @@ import gregtech.api.enums.GTValues;
 import gregtech.api.enums.ItemList;
 import gregtech.api.enums.Materials;
 import gregtech.api.enums.OrePrefixes;
+import gregtech.api.metrics.GTMetrics;
 import gregtech.api.util.GTConfig;
 import gregtech.api.util.GTLanguageManager;
 import gregtech.api.util.GTLog;
@@ -358,6 +359,8 @@ public class GTPreLoad {
         GTValues.debugBlockPump = Gregtech.debug.debugBlockPump;
         GTValues.debugEntityCramming = Gregtech.debug.debugEntityCramming;
         GTValues.debugWorldData = Gregtech.debug.debugWorldData;
+        GTValues.compressWorldData = Gregtech.general.compressWorldData;
+        GTMetrics.enabled = Gregtech.general.metricsExportInterval > 0;
         GTValues.oreveinAttempts = Gregtech.general.oreveinAttempts;
         GTValues.oreveinMaxPlacementAttempts = Gregtech.general.oreveinMaxPlacementAttempts;
         GTValues.oreveinPlacerOres = Gregtech.general.oreveinPlacerOres;
@@ -514,6 +517,7 @@ public class GTPreLoad {
         GTMod.proxy.mRenderItemDurabilityBar = Client.render.renderItemDurabilityBar;
         GTMod.proxy.mRenderItemChargeBar = Client.render.renderItemChargeBar;
         GTMod.proxy.mUseBlockUpdateHandler = Client.render.useBlockUpdateHandler;
+        GTMod.proxy.mRenderDynamicOverlays = Client.render.renderDynamicOverlays;
 
         GTMod.proxy.mCoverTabsVisible = Client.iface.coverTabsVisible;
         GTMod.proxy.mCoverTabsFlipped = Client.iface.coverTabsFlipped;
@@ -6,6 +6,7 @@ import java.awt.Rectangle;
 import java.lang.ref.SoftReference;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -151,9 +152,9 @@ public class GTNEIDefaultHandler extends TemplateRecipeHandler {
 
     public List<CachedDefaultRecipe> getCache() {
         SortedRecipeListCache cacheHolder = getCacheHolder();
-        List<CachedDefaultRecipe> cache;
-        if (cacheHolder.getCachedRecipesVersion() != GTMod.proxy.getNEIReloadCount()
-            || (cache = cacheHolder.getCachedRecipes()) == null) {
+        int version = GTMod.proxy.getNEIReloadCount();
+        List<CachedDefaultRecipe> cache = cacheHolder.getCachedRecipes(version);
+        if (cache == null) {
             try {
                 RecipeCategory defaultCategory = recipeMap.getDefaultRecipeCategory();
                 Collection<GTRecipe> recipes;
@@ -194,8 +195,7 @@ public class GTNEIDefaultHandler extends TemplateRecipeHandler {
                 // so we do not need any synchronization here
                 // even if it does break, at worst case it's just recreating the cache multiple times, which should be
                 // fine
-                cacheHolder.setCachedRecipes(cache);
-                cacheHolder.setCachedRecipesVersion(GTMod.proxy.getNEIReloadCount());
+                cacheHolder.setCachedRecipes(version, cache);
             } catch (Exception e) {
                 throw new RuntimeException(
                     "Could not construct GT NEI Handler cache for category " + recipeCategory
@@ -250,7 +250,11 @@ public class GTNEIDefaultHandler extends TemplateRecipeHandler {
             }
         }
         addFluidStacks(aResult, tResults);
-        for (CachedDefaultRecipe recipe : getCache()) {
+        List<CachedDefaultRecipe> recipes = getCache();
+        BitSet candidates = getCacheHolder().getOutputIndex(recipes)
+            .find(tResults);
+        for (int i = candidates.nextSetBit(0); i >= 0 && i < recipes.size(); i = candidates.nextSetBit(i + 1)) {
+            CachedDefaultRecipe recipe = recipes.get(i);
             if (tResults.stream()
                 .anyMatch(stack -> recipe.contains(recipe.mOutputs, stack))) arecipes.add(recipe);
         }
@@ -307,7 +311,11 @@ public class GTNEIDefaultHandler extends TemplateRecipeHandler {
             }
         }
         addFluidStacks(aInput, tInputs);
-        for (CachedDefaultRecipe recipe : getCache()) {
+        List<CachedDefaultRecipe> recipes = getCache();
+        BitSet candidates = getCacheHolder().getInputIndex(recipes)
+            .find(tInputs);
+        for (int i = candidates.nextSetBit(0); i >= 0 && i < recipes.size(); i = candidates.nextSetBit(i + 1)) {
+            CachedDefaultRecipe recipe = recipes.get(i);
             if (tInputs.stream()
                 .anyMatch(stack -> recipe.contains(recipe.mInputs, stack))) arecipes.add(recipe);
         }
@@ -719,31 +727,78 @@ public class GTNEIDefaultHandler extends TemplateRecipeHandler {
         }
     }
 
-    private class SortedRecipeListCache {
+    private static class VersionedRecipes extends SoftReference<List<CachedDefaultRecipe>> {
+
+        private final int version;
+
+        /**
+         * Built on the first lookup. Kept here, so that they are always dropped together with the recipes whose
+         * positions they refer to.
+         */
+        @Nullable
+        private volatile RecipeStackIndex outputIndex;
+        @Nullable
+        private volatile RecipeStackIndex inputIndex;
+
+        private VersionedRecipes(int version, List<CachedDefaultRecipe> recipes) {
+            super(recipes);
+            this.version = version;
+        }
+    }
 
-        private int mCachedRecipesVersion = -1;
+    private class SortedRecipeListCache {
 
+        /**
+         * Holds the recipes together with the NEI reload count they were built for, so that caches built in the
+         * background are published in one write. Softly referenced, so that caches can be dropped when memory runs low.
+         */
         @Nullable
-        private SoftReference<List<CachedDefaultRecipe>> mCachedRecipes;
+        private volatile VersionedRecipes mCachedRecipes;
 
         private Map<Byte, Range<Integer>> mTierIndexes;
         private Range<Byte> mTierRange;
 
-        public int getCachedRecipesVersion() {
-            return mCachedRecipesVersion;
+        /**
+         * @return The cached recipes if they were built for the given NEI reload count and haven't been dropped
+         */
+        @Nullable
+        public List<CachedDefaultRecipe> getCachedRecipes(int aVersion) {
+            VersionedRecipes cachedRecipes = mCachedRecipes;
+            return cachedRecipes == null || cachedRecipes.version != aVersion ? null : cachedRecipes.get();
         }
 
-        public void setCachedRecipesVersion(int aCachedRecipesVersion) {
-            this.mCachedRecipesVersion = aCachedRecipesVersion;
+        public void setCachedRecipes(int aVersion, @Nonnull List<CachedDefaultRecipe> aCachedRecipes) {
+            this.mTierIndexes = null;
+            this.mCachedRecipes = new VersionedRecipes(aVersion, aCachedRecipes);
         }
 
-        @Nullable
-        public List<CachedDefaultRecipe> getCachedRecipes() {
-            return mCachedRecipes == null ? null : mCachedRecipes.get();
+        public RecipeStackIndex getOutputIndex(List<CachedDefaultRecipe> aCachedRecipes) {
+            final VersionedRecipes cachedRecipes = getVersionedRecipes(aCachedRecipes);
+            RecipeStackIndex index = cachedRecipes == null ? null : cachedRecipes.outputIndex;
+            if (index == null) {
+                index = new RecipeStackIndex(aCachedRecipes, recipe -> recipe.mOutputs);
+                if (cachedRecipes != null) cachedRecipes.outputIndex = index;
+            }
+            return index;
         }
 
-        public void setCachedRecipes(@Nonnull List<CachedDefaultRecipe> aCachedRecipes) {
-            this.mCachedRecipes = new SoftReference<>(aCachedRecipes);
+        public RecipeStackIndex getInputIndex(List<CachedDefaultRecipe> aCachedRecipes) {
+            final VersionedRecipes cachedRecipes = getVersionedRecipes(aCachedRecipes);
+            RecipeStackIndex index = cachedRecipes == null ? null : cachedRecipes.inputIndex;
+            if (index == null) {
+                index = new RecipeStackIndex(aCachedRecipes, recipe -> recipe.mInputs);
+                if (cachedRecipes != null) cachedRecipes.inputIndex = index;
+            }
+            return index;
+        }
+
+        /**
+         * @return The cache entry holding exactly the given recipes, or null if they have been replaced since
+         */
+        @Nullable
+        private VersionedRecipes getVersionedRecipes(List<CachedDefaultRecipe> aCachedRecipes) {
+            final VersionedRecipes cachedRecipes = mCachedRecipes;
+            return cachedRecipes != null && cachedRecipes.get() == aCachedRecipes ? cachedRecipes : null;
         }
 
         public Range<Integer> getIndexRangeForTiers(byte lowerTier, byte upperTier) {
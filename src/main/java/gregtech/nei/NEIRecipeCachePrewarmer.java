@@ -0,0 +1,80 @@
+package gregtech.nei;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import codechicken.nei.recipe.GuiCraftingRecipe;
+import codechicken.nei.recipe.ICraftingHandler;
+import gregtech.GTMod;
+
+/**
+ * Builds the recipe lists of the GT NEI handlers on low priority background threads, so that opening a handler for
+ * the first time doesn't stall the render thread while its recipes are sorted and laid out.
+ * <p>
+ * The lists are published and dropped by {@link GTNEIDefaultHandler#getCache()} like lists built on demand, so they
+ * are still freed when memory runs low and rebuilt on the next lookup.
+ */
+public final class NEIRecipeCachePrewarmer {
+
+    private static final ExecutorService WORKERS = Executors.newFixedThreadPool(
+        Math.max(
+            1,
+            Runtime.getRuntime()
+                .availableProcessors() / 4),
+        new ThreadFactoryBuilder().setNameFormat("GT NEI Cache Prewarmer %d")
+            .setDaemon(true)
+            .setPriority(Thread.MIN_PRIORITY)
+            .build());
+
+    private NEIRecipeCachePrewarmer() {}
+
+    /**
+     * Queues building the recipe lists of all GT handlers for the current NEI reload count.
+     */
+    public static void prewarm() {
+        final List<GTNEIDefaultHandler> handlers = new ArrayList<>();
+        for (ICraftingHandler handler : GuiCraftingRecipe.craftinghandlers) {
+            if (handler instanceof GTNEIDefaultHandler gtHandler) handlers.add(gtHandler);
+        }
+        if (handlers.isEmpty()) return;
+
+        final int version = GTMod.proxy.getNEIReloadCount();
+        final long start = System.nanoTime();
+        final AtomicInteger remaining = new AtomicInteger(handlers.size());
+        final LongAdder recipes = new LongAdder();
+        final LongAdder stacks = new LongAdder();
+
+        for (GTNEIDefaultHandler handler : handlers) {
+            WORKERS.execute(() -> {
+                try {
+                    // the lists would be stale after another reload, that one queues its own prewarm
+                    if (GTMod.proxy.getNEIReloadCount() != version) return;
+
+                    final List<GTNEIDefaultHandler.CachedDefaultRecipe> cache = handler.getCache();
+                    recipes.add(cache.size());
+                    for (GTNEIDefaultHandler.CachedDefaultRecipe recipe : cache) {
+                        stacks.add(recipe.mInputs.size() + recipe.mOutputs.size());
+                    }
+                } catch (Exception e) {
+                    GTMod.GT_FML_LOGGER.warn("Failed to prewarm NEI recipes of {}", handler.getRecipeName(), e);
+                } finally {
+                    if (remaining.decrementAndGet() == 0) {
+                        GTMod.GT_FML_LOGGER.info(
+                            "Prewarmed {} NEI recipe handlers holding {} recipes with {} stacks in {} ms",
+                            handlers.size(),
+                            recipes.sum(),
+                            stacks.sum(),
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                    }
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package gregtech.nei;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.oredict.OreDictionary;
+
+import codechicken.nei.PositionedStack;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+
+/**
+ * Maps the stacks shown in the slots of NEI recipes to the positions of those recipes in their list, so that looking up
+ * the recipes making or using a stack doesn't have to check every recipe of a category. Fluids are shown as display
+ * stacks, so they are indexed the same way.
+ * <p>
+ * The index finds every recipe that could match, but may also find some that don't (e.g. for damageable items), so the
+ * candidates still have to be checked with {@code CachedRecipe#contains}.
+ */
+public class RecipeStackIndex {
+
+    private final Reference2ObjectMap<Item, Int2ObjectMap<IntList>> byDamage = new Reference2ObjectOpenHashMap<>();
+    /** Recipes with stacks matching any damage value of their item */
+    private final Reference2ObjectMap<Item, IntList> anyDamage = new Reference2ObjectOpenHashMap<>();
+
+    public <T> RecipeStackIndex(List<T> recipes, Function<T, List<PositionedStack>> stacksGetter) {
+        for (int i = 0; i < recipes.size(); i++) {
+            for (PositionedStack positionedStack : stacksGetter.apply(recipes.get(i))) {
+                for (ItemStack stack : positionedStack.items) {
+                    add(i, stack);
+                }
+            }
+        }
+    }
+
+    private void add(int recipeIndex, ItemStack stack) {
+        if (stack == null || stack.getItem() == null) return;
+        final Item item = stack.getItem();
+
+        final IntList recipes;
+        if (matchesAnyDamage(stack)) {
+            recipes = anyDamage.computeIfAbsent(item, k -> new IntArrayList());
+        } else {
+            recipes = byDamage.computeIfAbsent(item, k -> new Int2ObjectOpenHashMap<>())
+                .computeIfAbsent(stack.getItemDamage(), k -> new IntArrayList());
+        }
+        // recipes are added in order, so a recipe showing the same stack twice is always the last entry
+        if (recipes.isEmpty() || recipes.getInt(recipes.size() - 1) != recipeIndex) recipes.add(recipeIndex);
+    }
+
+    /**
+     * @param stacks The stacks to look for, may contain nulls
+     * @return The positions of the recipes that may contain any of the stacks
+     */
+    public BitSet find(Collection<ItemStack> stacks) {
+        final BitSet found = new BitSet();
+        for (ItemStack stack : stacks) {
+            if (stack == null || stack.getItem() == null) continue;
+            final Item item = stack.getItem();
+
+            addAll(found, anyDamage.get(item));
+            final Int2ObjectMap<IntList> damages = byDamage.get(item);
+            if (damages == null) continue;
+            if (matchesAnyDamage(stack)) {
+                for (IntList recipes : damages.values()) {
+                    addAll(found, recipes);
+                }
+            } else {
+                addAll(found, damages.get(stack.getItemDamage()));
+            }
+        }
+        return found;
+    }
+
+    private static void addAll(BitSet found, IntList recipes) {
+        if (recipes == null) return;
+        for (int i = 0; i < recipes.size(); i++) {
+            found.set(recipes.getInt(i));
+        }
+    }
+
+    private static boolean matchesAnyDamage(ItemStack stack) {
+        return stack.getItemDamage() == OreDictionary.WILDCARD_VALUE || stack.getItem()
+            .isDamageable();
+    }
+}
@@ -514,10 +514,10 @@ public class MTEAdvHeatExchanger extends GTPPMultiBlockBase<MTEAdvHeatExchanger>
 
     @Override
     public void endRecipeProcessing() {
-        super.endRecipeProcessing();
         if (mInputHotFluidHatch instanceof IRecipeProcessingAwareHatch aware && mInputHotFluidHatch.isValid()) {
             aware.endRecipeProcessing(this);
         }
+        super.endRecipeProcessing();
     }
 
     private enum AdvHEHatches implements IHatchElement<MTEAdvHeatExchanger> {
@@ -68,6 +68,7 @@ import gregtech.api.util.IGTHatchAdder;
 import gregtech.api.util.LongData;
 import gregtech.api.util.LongRunningAverage;
 import gregtech.api.util.MultiblockTooltipBuilder;
+import gregtech.api.util.MutableInt128;
 import gregtech.common.gui.modularui.multiblock.MTELapotronicSuperCapacitorgui;
 import gregtech.common.gui.modularui.multiblock.base.MTEMultiBlockBaseGui;
 import gregtech.common.misc.GTStructureChannels;
@@ -169,8 +170,6 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
     private static final int DEBUG_POWER_WINDOW_ID = 10;
     private static final int WIRELESS_WARNING_WINDOW_ID = 11;
 
-    private static final BigInteger LONG_MAX = BigInteger.valueOf(Long.MAX_VALUE);
-
     // height channel for height.
     // glass channel for glass
     // capacitor channel for capacitor, but it really just pick whatever capacitor it can find in survival
@@ -213,8 +212,6 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
         .addElement('C', GTStructureChannels.LSC_CAPACITOR.use(CellElement.INSTANCE))
         .build();
 
-    private static final BigInteger MAX_LONG = BigInteger.valueOf(Long.MAX_VALUE);
-
     private final Set<MTEHatchEnergyMulti> mEnergyHatchesTT = new HashSet<>();
     private final Set<MTEHatchDynamoMulti> mDynamoHatchesTT = new HashSet<>();
     private final Set<MTEHatchEnergyTunnel> mEnergyTunnelsTT = new HashSet<>();
@@ -224,7 +221,11 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
      */
     private final int[] capacitors = new int[10];
     private BigInteger capacity = BigInteger.ZERO;
-    private BigInteger stored = BigInteger.ZERO;
+    /** {@link #capacity} clamped to 128 bits, used for the per-tick arithmetic */
+    private final MutableInt128 capacityLimit = new MutableInt128();
+    private final MutableInt128 stored = new MutableInt128();
+    /** Scratch value for per-tick calculations, to avoid allocating */
+    private final MutableInt128 scratch = new MutableInt128();
     private long passiveDischargeAmount = 0;
     private long inputLastTick = 0;
     private long outputLastTick = 0;
@@ -276,7 +277,7 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
     }
 
     public BigInteger getStored() {
-        return stored;
+        return stored.toBigInteger();
     }
 
     public Boolean getHasRebalanced() {
@@ -296,7 +297,7 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
     }
 
     public void setStored(BigInteger stored) {
-        this.stored = stored;
+        this.stored.set(stored);
     }
 
     public long getPassiveDischargeAmount() {
@@ -309,6 +310,7 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
 
     public void setCapacity(BigInteger capacity) {
         this.capacity = capacity;
+        this.capacityLimit.set(capacity);
     }
 
     private void processInputHatch(MTEHatch aHatch, int aBaseCasingIndex) {
@@ -589,13 +591,14 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
             + getUMVCapacitorCount()) return false;
 
         // Calculate total capacity
-        capacity = BigInteger.ZERO;
+        BigInteger newCapacity = BigInteger.ZERO;
         for (int i = 0; i < capacitors.length; i++) {
             int count = capacitors[i];
-            capacity = capacity.add(
+            newCapacity = newCapacity.add(
                 Capacitor.VALUES[i].getProvidedCapacity()
                     .multiply(BigInteger.valueOf(count)));
         }
+        setCapacity(newCapacity);
         // Calculate how much energy to void each tick
         passiveDischargeAmount = recalculateLossWithMaintenance(getRepairStatus());
         return mMaintenanceHatches.size() == 1;
@@ -730,10 +733,10 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
 
         // This will break if you transfer more than 2^63 EU/t, so don't do that. Thanks <3
         temp_stored -= passiveDischargeAmount;
-        stored = stored.add(BigInteger.valueOf(temp_stored));
+        stored.add(temp_stored);
 
         // Check that the machine has positive EU stored.
-        stored = (stored.compareTo(BigInteger.ZERO) <= 0) ? BigInteger.ZERO : stored;
+        if (stored.signum() < 0) stored.setZero();
 
         IGregTechTileEntity tBMTE = this.getBaseMetaTileEntity();
 
@@ -751,17 +754,18 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
         balanced = true;
 
         // Find difference.
-        BigInteger transferred_eu = stored.subtract(
-            (ItemBlockLapotronicEnergyUnit.LSC_wireless_eu_cap.multiply(BigInteger.valueOf(getUHVCapacitorCount())))
-                .add(
-                    ItemBlockLapotronicEnergyUnit.UEV_wireless_eu_cap
-                        .multiply(BigInteger.valueOf(getUEVCapacitorCount())))
-                .add(
-                    ItemBlockLapotronicEnergyUnit.UIV_wireless_eu_cap
-                        .multiply(BigInteger.valueOf(getUIVCapacitorCount())))
-                .add(
-                    ItemBlockLapotronicEnergyUnit.UMV_wireless_eu_cap
-                        .multiply(BigInteger.valueOf(getUMVCapacitorCount()))));
+        BigInteger transferred_eu = stored.toBigInteger()
+            .subtract(
+                ItemBlockLapotronicEnergyUnit.LSC_wireless_eu_cap.multiply(BigInteger.valueOf(getUHVCapacitorCount()))
+                    .add(
+                        ItemBlockLapotronicEnergyUnit.UEV_wireless_eu_cap
+                            .multiply(BigInteger.valueOf(getUEVCapacitorCount())))
+                    .add(
+                        ItemBlockLapotronicEnergyUnit.UIV_wireless_eu_cap
+                            .multiply(BigInteger.valueOf(getUIVCapacitorCount())))
+                    .add(
+                        ItemBlockLapotronicEnergyUnit.UMV_wireless_eu_cap
+                            .multiply(BigInteger.valueOf(getUMVCapacitorCount()))));
 
         if (transferred_eu.signum() == -1) {
             inputLastTick += Math.abs(transferred_eu.longValue());
@@ -772,17 +776,17 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
         // If that difference can be added then do so.
         if (WirelessNetworkManager.addEUToGlobalEnergyMap(global_energy_user_uuid, transferred_eu)) {
             // If it succeeds there was sufficient energy so set the internal capacity as such.
-            stored = ItemBlockLapotronicEnergyUnit.LSC_wireless_eu_cap
-                .multiply(BigInteger.valueOf(getUHVCapacitorCount()))
-                .add(
-                    ItemBlockLapotronicEnergyUnit.UEV_wireless_eu_cap
-                        .multiply(BigInteger.valueOf(getUEVCapacitorCount()))
-                        .add(
-                            ItemBlockLapotronicEnergyUnit.UIV_wireless_eu_cap
-                                .multiply(BigInteger.valueOf(getUIVCapacitorCount())))
-                        .add(
-                            ItemBlockLapotronicEnergyUnit.UMV_wireless_eu_cap
-                                .multiply(BigInteger.valueOf(getUMVCapacitorCount()))));
+            stored.set(
+                ItemBlockLapotronicEnergyUnit.LSC_wireless_eu_cap.multiply(BigInteger.valueOf(getUHVCapacitorCount()))
+                    .add(
+                        ItemBlockLapotronicEnergyUnit.UEV_wireless_eu_cap
+                            .multiply(BigInteger.valueOf(getUEVCapacitorCount()))
+                            .add(
+                                ItemBlockLapotronicEnergyUnit.UIV_wireless_eu_cap
+                                    .multiply(BigInteger.valueOf(getUIVCapacitorCount())))
+                            .add(
+                                ItemBlockLapotronicEnergyUnit.UMV_wireless_eu_cap
+                                    .multiply(BigInteger.valueOf(getUMVCapacitorCount())))));
         }
 
         return 1;
@@ -826,10 +830,11 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
      * @return EU amount
      */
     private long getPowerToDraw(long hatchWatts) {
-        if (stored.compareTo(capacity) >= 0) return 0;
-        final BigInteger remcapActual = capacity.subtract(stored);
-        final BigInteger recampLimited = (MAX_LONG.compareTo(remcapActual) > 0) ? remcapActual : MAX_LONG;
-        return min(hatchWatts, recampLimited.longValue());
+        if (stored.compareTo(capacityLimit) >= 0) return 0;
+        final long remcapLimited = scratch.set(capacityLimit)
+            .subtract(stored)
+            .longValueClamped();
+        return min(hatchWatts, remcapLimited);
     }
 
     /**
@@ -839,15 +844,14 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
      * @return EU amount
      */
     private long getPowerToPush(long hatchWatts) {
-        final BigInteger remStoredLimited = (MAX_LONG.compareTo(stored) > 0) ? stored : MAX_LONG;
-        return min(hatchWatts, remStoredLimited.longValue());
+        return min(hatchWatts, stored.longValueClamped());
     }
 
     public String getTimeTo() {
         double avgIn = energyInputValues.avgLong();
         double avgOut = energyOutputValues.avgLong();
         double passLoss = passiveDischargeAmount;
-        double cap = capacity.doubleValue();
+        double cap = capacityLimit.doubleValue();
         double sto = stored.doubleValue();
         if (avgIn >= avgOut + passLoss) {
             // Calculate time to full if charging
@@ -886,6 +890,7 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
     @Override
     public String[] getInfoData() {
         NumberFormat nf = NumberFormat.getNumberInstance();
+        final BigInteger stored = this.stored.toBigInteger();
         int secInterval = DURATION_AVERAGE_TICKS / 20;
 
         final ArrayList<String> ll = new ArrayList<>();
@@ -1037,8 +1042,8 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
     public void loadNBTData(NBTTagCompound nbt) {
         nbt = (nbt == null) ? new NBTTagCompound() : nbt;
 
-        capacity = new BigInteger(nbt.getByteArray("capacity"));
-        stored = new BigInteger(nbt.getByteArray("stored"));
+        setCapacity(new BigInteger(nbt.getByteArray("capacity")));
+        stored.setFromByteArray(nbt.getByteArray("stored"));
         wireless_mode = nbt.getBoolean("wireless_mode");
         counter = nbt.getInteger("wireless_mode_cooldown");
         showWarning = nbt.getBoolean("warningReceived");
@@ -1051,13 +1056,13 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
     // called by the getEUCapacity() function in BaseMetaTileEntity
     @Override
     public long maxEUStore() {
-        return capacity.compareTo(LONG_MAX) > 0 ? Long.MAX_VALUE : capacity.longValue();
+        return capacityLimit.longValueClamped();
     }
 
     // called by the getEUStored() function in BaseMetaTileEntity
     @Override
     public long getEUVar() {
-        return stored.longValue();
+        return stored.longValueClamped();
     }
 
     /*
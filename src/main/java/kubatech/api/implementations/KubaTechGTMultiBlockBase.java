@@ -220,6 +220,7 @@ public abstract class KubaTechGTMultiBlockBase<T extends MTEExtendedPowerMultiBl
         }
         if (emptySlots == 0 && !ignoreEmptiness) return false;
         boolean wasSomethingRemoved = false;
+        List<ItemStack> toOutput = new ArrayList<>();
         while (!list.isEmpty()) {
             List<ItemStack> toOutputNow = mappingFunction.apply(list.get(0));
             if (toOutputNow == null) {
@@ -230,10 +231,9 @@ public abstract class KubaTechGTMultiBlockBase<T extends MTEExtendedPowerMultiBl
             emptySlots -= toOutputNow.size();
             list.remove(0);
             wasSomethingRemoved = true;
-            for (ItemStack stack : toOutputNow) {
-                addOutputPartial(stack);
-            }
+            toOutput.addAll(toOutputNow);
         }
+        addOutputPartial(toOutput);
         return wasSomethingRemoved;
     }
 
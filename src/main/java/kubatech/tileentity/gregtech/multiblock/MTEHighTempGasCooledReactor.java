@@ -441,12 +441,12 @@ public class MTEHighTempGasCooledReactor extends KubaTechGTMultiBlockBase<MTEHig
 
     @Override
     public void endRecipeProcessing() {
-        super.endRecipeProcessing();
         for (MTEHatch hatch : validMTEList(mCustomHatches)) {
             if (hatch instanceof IRecipeProcessingAwareHatch aware) {
                 setResultIfFailure(aware.endRecipeProcessing(this));
             }
         }
+        super.endRecipeProcessing();
     }
 
     @Override
@@ -1,20 +1,21 @@
 package tectech.mechanics.dataTransport;
 
-import java.util.Collections;
-import java.util.LinkedHashSet;
-import java.util.Set;
-
 import net.minecraft.nbt.NBTTagCompound;
 
+import com.gtnewhorizon.gtnhlib.util.CoordinatePacker;
 import com.gtnewhorizon.structurelib.util.Vec3Impl;
 
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+
 /**
  * Created by Tec on 05.04.2017.
  */
 public abstract class DataPacket<T> {
 
     private static final byte MAX_HISTORY = 64;
-    private final Set<Vec3Impl> trace = new LinkedHashSet<>();
+    /** Positions the packet passed through, packed with {@link CoordinatePacker} */
+    private final LongLinkedOpenHashSet trace = new LongLinkedOpenHashSet();
 
     protected T content;
 
@@ -25,7 +26,8 @@ public abstract class DataPacket<T> {
     protected DataPacket(NBTTagCompound nbt) {
         content = contentFromNBT(nbt.getCompoundTag("qContent"));
         for (int i = 0; i < nbt.getByte("qHistory"); i++) {
-            trace.add(new Vec3Impl(nbt.getInteger("qX" + i), nbt.getInteger("qY" + i), nbt.getInteger("qZ" + i)));
+            trace.add(
+                CoordinatePacker.pack(nbt.getInteger("qX" + i), nbt.getInteger("qY" + i), nbt.getInteger("qZ" + i)));
         }
     }
 
@@ -37,11 +39,11 @@ public abstract class DataPacket<T> {
         }
         nbt.setByte("qHistory", (byte) trace.size());
         int i = 0;
-        for (Vec3Impl v : trace) {
-            nbt.setInteger("qX" + i, v.get0());
-            nbt.setInteger("qY" + i, v.get1());
-            nbt.setInteger("qZ" + i, v.get2());
-            i++;
+        for (LongIterator iter = trace.iterator(); iter.hasNext(); i++) {
+            long v = iter.nextLong();
+            nbt.setInteger("qX" + i, CoordinatePacker.unpackX(v));
+            nbt.setInteger("qY" + i, CoordinatePacker.unpackY(v));
+            nbt.setInteger("qZ" + i, CoordinatePacker.unpackZ(v));
         }
         return nbt;
     }
@@ -53,7 +55,11 @@ public abstract class DataPacket<T> {
     protected abstract T unifyContentWith(T content);
 
     public final boolean contains(Vec3Impl v) {
-        return trace.contains(v);
+        return trace.contains(pack(v));
+    }
+
+    public final boolean contains(long packedPos) {
+        return trace.contains(packedPos);
     }
 
     public final boolean check() {
@@ -63,7 +69,14 @@ public abstract class DataPacket<T> {
     public abstract boolean extraCheck();
 
     protected final DataPacket<T> unifyTrace(Vec3Impl... positions) {
-        Collections.addAll(trace, positions);
+        for (Vec3Impl v : positions) {
+            trace.add(pack(v));
+        }
+        return (check() && extraCheck()) ? this : null;
+    }
+
+    protected final DataPacket<T> unifyTrace(long packedPos) {
+        trace.add(packedPos);
         return (check() && extraCheck()) ? this : null;
     }
 
@@ -84,7 +97,11 @@ public abstract class DataPacket<T> {
     }
 
     public final T contentIfNotInTrace(Vec3Impl pos) {
-        if (trace.contains(pos)) {
+        return contentIfNotInTrace(pack(pos));
+    }
+
+    public final T contentIfNotInTrace(long packedPos) {
+        if (trace.contains(packedPos)) {
             return null;
         }
         return getContent();
@@ -101,4 +118,8 @@ public abstract class DataPacket<T> {
     public final int getTraceSize() {
         return trace.size();
     }
+
+    private static long pack(Vec3Impl v) {
+        return CoordinatePacker.pack(v.get0(), v.get1(), v.get2());
+    }
 }
@@ -40,6 +40,10 @@ public class QuantumDataPacket extends DataPacket<Long> {
         return (QuantumDataPacket) super.unifyTrace(positions);
     }
 
+    public QuantumDataPacket unifyTraceWith(long packedPos) {
+        return (QuantumDataPacket) super.unifyTrace(packedPos);
+    }
+
     public QuantumDataPacket unifyTraceWith(QuantumDataPacket p) {
         return (QuantumDataPacket) super.unifyTrace(p);
     }
@@ -0,0 +1,26 @@
+package tectech.mechanics.pipe;
+
+/**
+ * Tracks changes to the layout of data pipes and hatches, so that routes between data hatches only have to be walked
+ * again after a pipe or hatch was placed, removed, unloaded, recolored or rotated.
+ */
+public final class DataPipeTopology {
+
+    private static int version;
+
+    private DataPipeTopology() {}
+
+    /**
+     * @return A number that changes whenever a data pipe or hatch changes
+     */
+    public static int getVersion() {
+        return version;
+    }
+
+    /**
+     * Invalidates all cached routes. Call this when a data pipe or hatch changes how it connects.
+     */
+    public static void invalidate() {
+        version++;
+    }
+}
@@ -22,6 +22,7 @@ import gregtech.api.metatileentity.implementations.MTEHatch;
 import gregtech.api.render.TextureFactory;
 import gregtech.mixin.interfaces.accessors.EntityPlayerMPAccessor;
 import tectech.mechanics.dataTransport.DataPacket;
+import tectech.mechanics.pipe.DataPipeTopology;
 import tectech.mechanics.pipe.IConnectsToDataPipe;
 import tectech.util.CommonValues;
 
@@ -111,6 +112,36 @@ public abstract class MTEHatchDataConnector<T extends DataPacket<?>> extends MTE
 
     public abstract void moveAround(IGregTechTileEntity aBaseMetaTileEntity);
 
+    @Override
+    public void onFirstTick(IGregTechTileEntity aBaseMetaTileEntity) {
+        super.onFirstTick(aBaseMetaTileEntity);
+        DataPipeTopology.invalidate();
+    }
+
+    @Override
+    public void onRemoval() {
+        DataPipeTopology.invalidate();
+        super.onRemoval();
+    }
+
+    @Override
+    public void onUnload() {
+        DataPipeTopology.invalidate();
+        super.onUnload();
+    }
+
+    @Override
+    public void onFacingChange() {
+        super.onFacingChange();
+        DataPipeTopology.invalidate();
+    }
+
+    @Override
+    public void onColorChangeServer(byte aColor) {
+        super.onColorChangeServer(aColor);
+        DataPipeTopology.invalidate();
+    }
+
     protected void resetHistory() {
 
     }
@@ -2,6 +2,7 @@ package tectech.thing.metaTileEntity.hatch;
 
 import static net.minecraft.util.StatCollector.translateToLocal;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import net.minecraft.entity.player.EntityPlayer;
@@ -29,6 +30,7 @@ import gregtech.api.util.GTUtility;
 import mcp.mobius.waila.api.IWailaConfigHandler;
 import mcp.mobius.waila.api.IWailaDataAccessor;
 import tectech.mechanics.dataTransport.QuantumDataPacket;
+import tectech.mechanics.pipe.DataPipeTopology;
 import tectech.mechanics.pipe.IConnectsToDataPipe;
 import tectech.thing.metaTileEntity.pipe.MTEPipeData;
 import tectech.util.CommonValues;
@@ -40,6 +42,12 @@ public class MTEHatchDataOutput extends MTEHatchDataConnector<QuantumDataPacket>
 
     private long history;
 
+    /** The input hatch at the end of the pipes in front of this hatch, null if there is none */
+    private MTEHatchDataInput routeTarget;
+    /** The pipes packets pass through on the way to {@link #routeTarget}, lit up when they are used */
+    private final List<MTEPipeData> routePipes = new ArrayList<>();
+    private int routeVersion = -1;
+
     public long requestedComputation;
     public boolean allowComputationConfiguring;
 
@@ -103,25 +111,63 @@ public class MTEHatchDataOutput extends MTEHatchDataConnector<QuantumDataPacket>
 
     @Override
     public void moveAround(IGregTechTileEntity aBaseMetaTileEntity) {
+        if (routeVersion != DataPipeTopology.getVersion() || !isRouteLoaded()) {
+            findRoute();
+        } else {
+            for (MTEPipeData pipe : routePipes) {
+                pipe.markUsed();
+            }
+        }
+        if (routeTarget != null) {
+            routeTarget.setContents(q);
+        }
+
+        history = q == null ? 0 : q.getContent();
+
+        q = null;
+    }
+
+    @Override
+    protected void resetHistory() {
+        history = 0;
+    }
+
+    private void findRoute() {
+        routeTarget = null;
+        routePipes.clear();
+        routeVersion = DataPipeTopology.getVersion();
+
         IConnectsToDataPipe current = this, source = this, next;
         int range = 0;
         while ((next = current.getNext(source)) != null && range++ < 1000) {
             if (next instanceof MTEHatchDataInput) {
-                ((MTEHatchDataInput) next).setContents(q);
+                routeTarget = (MTEHatchDataInput) next;
                 break;
             }
+            // getNext only marks the first pipe and the pipes in the middle of a line as used
+            if (next instanceof MTEPipeData pipe && (current == this || pipe.connectionCount == 2)) {
+                routePipes.add(pipe);
+            }
             source = current;
             current = next;
         }
+    }
 
-        history = q == null ? 0 : q.getContent();
-
-        q = null;
+    private boolean isRouteLoaded() {
+        if (routeTarget != null && !isLoaded(routeTarget)) {
+            return false;
+        }
+        for (MTEPipeData pipe : routePipes) {
+            if (!isLoaded(pipe)) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    @Override
-    protected void resetHistory() {
-        history = 0;
+    private static boolean isLoaded(IMetaTileEntity metaTileEntity) {
+        IGregTechTileEntity base = metaTileEntity.getBaseMetaTileEntity();
+        return base != null && !base.isInvalidTileEntity();
     }
 
     @Override
@@ -364,10 +364,7 @@ public class MTENetworkSwitchAdv extends TTMultiblockBase
     public void outputAfterRecipe_EM() {
         super.outputAfterRecipe_EM();
 
-        Vec3Impl pos = new Vec3Impl(
-            getBaseMetaTileEntity().getXCoord(),
-            getBaseMetaTileEntity().getYCoord(),
-            getBaseMetaTileEntity().getZCoord());
+        long pos = getDataTracePosition();
 
         for (MTEHatchDataOutput output : validMTEList(eOutputData)) {
             if (pendingComputation <= 0) break;
@@ -33,12 +33,12 @@ import net.minecraftforge.fluids.FluidStack;
 import org.jetbrains.annotations.NotNull;
 import org.lwjgl.opengl.GL11;
 
+import com.gtnewhorizon.gtnhlib.util.CoordinatePacker;
 import com.gtnewhorizon.structurelib.StructureLibAPI;
 import com.gtnewhorizon.structurelib.alignment.IAlignment;
 import com.gtnewhorizon.structurelib.alignment.IAlignmentProvider;
 import com.gtnewhorizon.structurelib.structure.IStructureDefinition;
 import com.gtnewhorizon.structurelib.structure.IStructureElement;
-import com.gtnewhorizon.structurelib.util.Vec3Impl;
 import com.gtnewhorizons.modularui.api.NumberFormatMUI;
 import com.gtnewhorizons.modularui.api.drawable.IDrawable;
 import com.gtnewhorizons.modularui.api.drawable.UITexture;
@@ -566,11 +566,7 @@ public abstract class TTMultiblockBase extends MTEExtendedPowerMultiBlockBase<TT
      */
     protected long getAvailableData_EM() {
         long result = 0;
-        IGregTechTileEntity baseMetaTileEntity = getBaseMetaTileEntity();
-        Vec3Impl pos = new Vec3Impl(
-            baseMetaTileEntity.getXCoord(),
-            baseMetaTileEntity.getYCoord(),
-            baseMetaTileEntity.getZCoord());
+        long pos = getDataTracePosition();
         for (MTEHatchDataInput in : eInputData) {
             if (in.q != null) {
                 Long value = in.q.contentIfNotInTrace(pos);
@@ -582,6 +578,17 @@ public abstract class TTMultiblockBase extends MTEExtendedPowerMultiBlockBase<TT
         return result;
     }
 
+    /**
+     * @return The position of this controller as stored in the trace of data packets
+     */
+    protected final long getDataTracePosition() {
+        IGregTechTileEntity baseMetaTileEntity = getBaseMetaTileEntity();
+        return CoordinatePacker.pack(
+            baseMetaTileEntity.getXCoord(),
+            baseMetaTileEntity.getYCoord(),
+            baseMetaTileEntity.getZCoord());
+    }
+
     protected long getPowerFlow() {
         return useLongPower ? lEUt : mEUt;
     }
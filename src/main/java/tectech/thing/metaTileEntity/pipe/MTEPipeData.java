@@ -23,6 +23,7 @@ import gregtech.api.metatileentity.MetaPipeEntity;
 import gregtech.api.render.TextureFactory;
 import tectech.TecTech;
 import tectech.loader.NetworkDispatcher;
+import tectech.mechanics.pipe.DataPipeTopology;
 import tectech.mechanics.pipe.IActivePipe;
 import tectech.mechanics.pipe.IConnectsToDataPipe;
 import tectech.mechanics.pipe.PipeActivityMessage;
@@ -129,6 +130,7 @@ public class MTEPipeData extends MetaPipeEntity implements IConnectsToDataPipe,
 
     public void updateNetwork(boolean nestedCall) {
         IGregTechTileEntity aBaseMetaTileEntity = this.getBaseMetaTileEntity();
+        DataPipeTopology.invalidate();
 
         active = false;
 
@@ -189,10 +191,17 @@ public class MTEPipeData extends MetaPipeEntity implements IConnectsToDataPipe,
                 neighbor.connectionCount--;
             }
         }
+        DataPipeTopology.invalidate();
 
         super.onBlockDestroyed();
     }
 
+    @Override
+    public void onRemoval() {
+        DataPipeTopology.invalidate();
+        super.onRemoval();
+    }
+
     @Override
     public void onFirstTick(IGregTechTileEntity aBaseMetaTileEntity) {
         this.updateNetwork(false);
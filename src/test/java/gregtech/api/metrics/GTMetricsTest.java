@@ -0,0 +1,47 @@
+package gregtech.api.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class GTMetricsTest {
+
+    @Test
+    void countsOnlyWhileEnabled() {
+        final GTMetrics.Counter counter = GTMetrics.counter("test_counts_only_while_enabled_total", "test");
+
+        GTMetrics.enabled = false;
+        counter.increment();
+        assertEquals(0, counter.get());
+
+        GTMetrics.enabled = true;
+        counter.increment();
+        counter.add(41);
+        assertEquals(42, counter.get());
+        GTMetrics.enabled = false;
+    }
+
+    @Test
+    void rejectsDuplicateAndInvalidNames() {
+        GTMetrics.gauge("test_duplicate", "test", () -> 1);
+        assertThrows(IllegalArgumentException.class, () -> GTMetrics.counter("test_duplicate", "test"));
+        assertThrows(IllegalArgumentException.class, () -> GTMetrics.counter("test invalid", "test"));
+    }
+
+    @Test
+    void formats() {
+        final List<GTMetrics.Sample> samples = Arrays.asList(
+            new GTMetrics.Sample("gt_a_total", "A\ncounter", "counter", 3),
+            new GTMetrics.Sample("gt_b", "A gauge", "gauge", -1));
+
+        assertEquals(
+            "# HELP gt_a_total A\\ncounter\n# TYPE gt_a_total counter\ngt_a_total 3\n"
+                + "# HELP gt_b A gauge\n# TYPE gt_b gauge\ngt_b -1\n",
+            GTMetrics.toPrometheusText(samples));
+        assertEquals("{\"timestamp\":1000,\"gt_a_total\":3,\"gt_b\":-1}\n", GTMetrics.toJson(samples, 1000));
+    }
+}
@@ -0,0 +1,125 @@
+package gregtech.api.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+// BigInteger with manual clamping is used as the reference for the saturating 128-bit arithmetic
+class MutableInt128Test {
+
+    private static final long[] EDGES = { 0, 1, -1, Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE - 1,
+        Long.MIN_VALUE + 1, 0x7FFF_FFFFL, 0x8000_0000L, -0x8000_0000L };
+
+    private static BigInteger clamp(BigInteger value) {
+        return value.min(MutableInt128.MAX_VALUE)
+            .max(MutableInt128.MIN_VALUE);
+    }
+
+    private static BigInteger[] samples() {
+        Random random = new Random(128);
+        BigInteger[] samples = new BigInteger[EDGES.length + 6 + 200];
+        int i = 0;
+        for (long edge : EDGES) samples[i++] = BigInteger.valueOf(edge);
+        samples[i++] = MutableInt128.MAX_VALUE;
+        samples[i++] = MutableInt128.MIN_VALUE;
+        samples[i++] = MutableInt128.MAX_VALUE.subtract(BigInteger.ONE);
+        samples[i++] = MutableInt128.MIN_VALUE.add(BigInteger.ONE);
+        samples[i++] = BigInteger.ONE.shiftLeft(64);
+        samples[i++] = BigInteger.ONE.shiftLeft(64)
+            .negate();
+        while (i < samples.length) {
+            samples[i++] = new BigInteger(1 + random.nextInt(127), random).multiply(
+                random.nextBoolean() ? BigInteger.ONE : BigInteger.ONE.negate());
+        }
+        return samples;
+    }
+
+    @Test
+    void addAndSubtract() {
+        BigInteger[] samples = samples();
+        for (BigInteger a : samples) {
+            for (BigInteger b : samples) {
+                assertEquals(
+                    clamp(a.add(b)),
+                    new MutableInt128(a).add(new MutableInt128(b))
+                        .toBigInteger(),
+                    () -> a + " + " + b);
+                assertEquals(
+                    clamp(a.subtract(b)),
+                    new MutableInt128(a).subtract(new MutableInt128(b))
+                        .toBigInteger(),
+                    () -> a + " - " + b);
+                assertEquals(
+                    Integer.signum(a.compareTo(b)),
+                    Integer.signum(new MutableInt128(a).compareTo(new MutableInt128(b))));
+            }
+            for (long b : EDGES) {
+                BigInteger bigB = BigInteger.valueOf(b);
+                assertEquals(
+                    clamp(a.add(bigB)),
+                    new MutableInt128(a).add(b)
+                        .toBigInteger());
+                assertEquals(
+                    clamp(a.subtract(bigB)),
+                    new MutableInt128(a).subtract(b)
+                        .toBigInteger());
+                assertEquals(Integer.signum(a.compareTo(bigB)), Integer.signum(new MutableInt128(a).compareTo(b)));
+            }
+        }
+    }
+
+    @Test
+    void conversions() {
+        for (BigInteger a : samples()) {
+            MutableInt128 value = new MutableInt128(a);
+            assertEquals(a.signum(), value.signum());
+            assertArrayEquals(a.toByteArray(), value.toByteArray(), a::toString);
+            assertEquals(
+                a,
+                new MutableInt128().setFromByteArray(a.toByteArray())
+                    .toBigInteger());
+            assertEquals(a.toString(), value.toString());
+            assertEquals(a.doubleValue(), value.doubleValue(), Math.ulp(a.doubleValue()));
+            long clamped = a.max(BigInteger.valueOf(Long.MIN_VALUE))
+                .min(BigInteger.valueOf(Long.MAX_VALUE))
+                .longValue();
+            assertEquals(clamped, value.longValueClamped());
+        }
+    }
+
+    @Test
+    void saturatesOnOversizedInput() {
+        BigInteger huge = BigInteger.valueOf(Long.MAX_VALUE)
+            .pow(3);
+        assertEquals(MutableInt128.MAX_VALUE, new MutableInt128(huge).toBigInteger());
+        assertEquals(
+            MutableInt128.MIN_VALUE,
+            new MutableInt128().setFromByteArray(
+                huge.negate()
+                    .toByteArray())
+                .toBigInteger());
+        assertTrue(
+            new MutableInt128().setFromByteArray(new byte[0])
+                .isZero());
+    }
+
+    @Test
+    void minMax() {
+        MutableInt128 a = new MutableInt128(5);
+        MutableInt128 b = new MutableInt128(MutableInt128.MAX_VALUE);
+        assertEquals(
+            5,
+            a.copy()
+                .min(b)
+                .longValueClamped());
+        assertEquals(
+            b,
+            a.copy()
+                .max(b));
+        assertEquals(Long.MAX_VALUE, b.longValueClamped());
+        assertEquals(Integer.MAX_VALUE, b.intValueClamped());
+    }
+}
@@ -0,0 +1,57 @@
+package gregtech.common.powergoggles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+import org.junit.jupiter.api.Test;
+
+class EnergyTimeSeriesTest {
+
+    @Test
+    void dropsOldestSamplesWhenFull() {
+        final EnergyTimeSeries series = new EnergyTimeSeries(false);
+        final int count = PowerGogglesConstants.STORED_MEASUREMENTS + 5;
+        for (int i = 0; i < count; i++) {
+            series.add(i, BigInteger.valueOf(i), 1000 + i);
+        }
+
+        final EnergyTimeSeries.Tier samples = series.getSamples();
+        assertEquals(PowerGogglesConstants.STORED_MEASUREMENTS, samples.size());
+        assertEquals(BigInteger.valueOf(5), samples.getEnergy(0));
+        assertEquals(1005, samples.getCapacity(0));
+        assertEquals(BigInteger.valueOf(count - 1), samples.getEnergy(samples.size() - 1));
+    }
+
+    @Test
+    void downsamplesToMinutesAndHours() {
+        final EnergyTimeSeries series = new EnergyTimeSeries(true);
+        final int perHour = EnergyTimeSeries.SAMPLES_PER_MINUTE * 60;
+        for (int i = 1; i <= perHour * 2; i++) {
+            series.add(i, BigInteger.valueOf(i), 0);
+        }
+
+        final EnergyTimeSeries.Tier minutes = series.getMinutes();
+        assertEquals(120, minutes.size());
+        assertEquals(BigInteger.valueOf(EnergyTimeSeries.SAMPLES_PER_MINUTE), minutes.getEnergy(0));
+        final EnergyTimeSeries.Tier hours = series.getHours();
+        assertEquals(2, hours.size());
+        assertEquals(BigInteger.valueOf(perHour * 2L), hours.getEnergy(1));
+    }
+
+    @Test
+    void keepsValuesTooLargeForALong() throws IOException {
+        final BigInteger large = BigInteger.valueOf(Long.MAX_VALUE)
+            .multiply(BigInteger.TEN);
+        final EnergyTimeSeries series = new EnergyTimeSeries(true);
+        series.add(1, large, 0);
+        series.add(2, BigInteger.valueOf(-3), 0);
+
+        final EnergyTimeSeries copy = EnergyTimeSeries.fromBytes(series.toBytes());
+        assertEquals(2, copy.getLastSampleTick());
+        final EnergyTimeSeries.Tier samples = copy.getSamples();
+        assertEquals(large, samples.getEnergy(0));
+        assertEquals(BigInteger.valueOf(-3), samples.getEnergy(1));
+    }
+}